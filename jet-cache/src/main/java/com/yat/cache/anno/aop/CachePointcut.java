@@ -33,6 +33,29 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
      * 扫描缓存的包名
      */
     private final String[] basePackages;
+    /**
+     * 与 {@link #basePackages} 一一对应的预编译通配符模式，包名中没有通配符时为 null
+     */
+    private final Pattern[] basePackagePatterns;
+    /**
+     * 类自身是否匹配的结果，每个类只计算一次
+     */
+    private final ClassValue<Boolean> thisMatches = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(@NonNull Class<?> type) {
+            String name = type.getName();
+            return !exclude(name) && include(name);
+        }
+    };
+    /**
+     * 类及其父类、接口是否匹配的结果，每个类只计算一次
+     */
+    private final ClassValue<Boolean> hierarchyMatches = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(@NonNull Class<?> type) {
+            return matchesImpl(type);
+        }
+    };
     /**
      * 设置缓存配置映射
      */
@@ -42,6 +65,16 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
     public CachePointcut(String[] basePackages) {
         setClassFilter(this);
         this.basePackages = basePackages;
+        // 启动时编译一次通配符，不在每次匹配时重新编译
+        this.basePackagePatterns = basePackages == null ? null : new Pattern[basePackages.length];
+        if (basePackages != null) {
+            for (int i = 0; i < basePackages.length; i++) {
+                String p = basePackages[i];
+                if (p.indexOf('*') >= 0 || p.indexOf('?') >= 0) {
+                    basePackagePatterns[i] = Pattern.compile(convertWildcardToRegex(p));
+                }
+            }
+        }
     }
 
     /**
@@ -53,8 +86,8 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
      */
     @Override
     public boolean matches(@NonNull Class<?> clazz) {
-        // 调用matchesImpl方法执行匹配逻辑，结果用于决定是否返回true
-        boolean b = matchesImpl(clazz);
+        // 按类缓存匹配结果，每个类的继承结构只遍历一次
+        boolean b = hierarchyMatches.get(clazz);
         // 记录匹配结果和被检查的类信息，帮助调试和追踪
         logger.trace("check class match {}: {}", b, clazz);
         // 返回匹配结果
@@ -80,7 +113,7 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
         // 遍历所有接口，递归检查接口是否匹配条件
         if (ObjectUtils.isArray(cs)) {
             for (Class<?> c : cs) {
-                if (matchesImpl(c)) {
+                if (hierarchyMatches.get(c)) {
                     return Boolean.TRUE;
                 }
             }
@@ -90,7 +123,7 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
         if (!clazz.isInterface()) {
             Class<?> sp = clazz.getSuperclass();
             // 如果有父类且父类匹配条件，则返回true
-            if (sp != null && matchesImpl(sp)) {
+            if (sp != null && hierarchyMatches.get(sp)) {
                 return Boolean.TRUE;
             }
         }
@@ -108,17 +141,8 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
      * @return 如果类的名称在包含列表中且不在排除列表中，则返回true；否则返回false
      */
     public boolean matchesThis(Class<?> clazz) {
-        // 获取类的全名
-        String name = clazz.getName();
-
-        // 检查类的名称是否在排除列表中
-        if (exclude(name)) {
-            // 如果在排除列表中，直接返回false
-            return Boolean.FALSE;
-        }
-
-        // 检查类的名称是否在包含列表中，并返回相应的结果
-        return include(name);
+        // 结果按类缓存，只在首次检查时计算类名是否在排除列表和包含列表中
+        return thisMatches.get(clazz);
     }
 
     /**
@@ -131,9 +155,9 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
         // 如果基础包列表不为空
         if (basePackages != null) {
             // 遍历基础包列表
-            for (String p : basePackages) {
+            for (int i = 0; i < basePackages.length; i++) {
                 // 如果名称以基础包开始
-                if (name.startsWith(p) || matchesWildcard(p, name)) {
+                if (name.startsWith(basePackages[i]) || matchesWildcard(i, name)) {
                     // 则认为该名称在配置范围内，返回true
                     return Boolean.TRUE;
                 }
@@ -311,26 +335,25 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
     /**
      * 使用通配符模式匹配文本字符串
      *
-     * @param pattern 通配符模式
+     * @param index   基础包的下标，对应的通配符模式已在构造时编译
      * @param text    待匹配的文本字符串
      * @return 如果文本字符串匹配通配符模式，则返回true；否则返回false
      * <p>
      * 说明：
-     * 该方法首先将通配符模式转换为正则表达式，然后利用Java的Pattern和Matcher类
+     * 通配符模式在构造时由convertWildcardToRegex转换为正则表达式并编译，这里利用Java的Matcher类
      * 进行匹配。这种方法允许模式匹配具有很大的灵活性，几乎支持shell通配符的任意组合。
      * <p>
      * 步骤：
-     * 1. 调用convertWildcardToRegex方法将通配符模式转换为正则表达式
-     * 2. 编译正则表达式为Pattern对象
-     * 3. 创建Matcher对象，并将文本字符串作为匹配目标
-     * 4. 使用Matcher的matches方法进行全局匹配，如果整个文本字符串与模式匹配，则返回true
+     * 1. 取出预编译的Pattern对象，不含通配符时直接返回false
+     * 2. 创建Matcher对象，并将文本字符串作为匹配目标
+     * 3. 使用Matcher的matches方法进行全局匹配，如果整个文本字符串与模式匹配，则返回true
      */
-    private boolean matchesWildcard(String pattern, String text) {
-        // 将通配符模式转换为正则表达式
-        String regex = convertWildcardToRegex(pattern);
-
-        // 编译正则表达式为Pattern对象
-        Pattern compiledPattern = Pattern.compile(regex);
+    private boolean matchesWildcard(int index, String text) {
+        // 获取预编译的正则表达式，没有通配符的包名只做前缀匹配
+        Pattern compiledPattern = basePackagePatterns[index];
+        if (compiledPattern == null) {
+            return Boolean.FALSE;
+        }
 
         // 创建Matcher对象，并将文本字符串作为匹配目标
         Matcher matcher = compiledPattern.matcher(text);
@@ -339,7 +362,7 @@ public class CachePointcut extends StaticMethodMatcherPointcut implements ClassF
         return matcher.matches();
     }
 
-    private String convertWildcardToRegex(String wildcard) {
+    private static String convertWildcardToRegex(String wildcard) {
         StringBuilder sb = new StringBuilder(wildcard.length());
         sb.append('^'); // 开始符号
         for (int i = 0; i < wildcard.length(); i++) {
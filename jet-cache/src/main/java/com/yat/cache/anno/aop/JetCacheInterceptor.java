@@ -4,6 +4,7 @@ import cn.hutool.core.util.ObjectUtil;
 import com.yat.cache.anno.method.CacheHandler;
 import com.yat.cache.anno.method.CacheInvokeConfig;
 import com.yat.cache.anno.method.CacheInvokeContext;
+import com.yat.cache.anno.support.CacheContext;
 import com.yat.cache.anno.support.ConfigMap;
 import com.yat.cache.anno.support.ConfigProvider;
 import com.yat.cache.anno.support.GlobalCacheConfig;
@@ -14,12 +15,16 @@ import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.lang.NonNull;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 类JetCacheInterceptor的作用是作为方法拦截器，处理带有缓存注解的方法。
@@ -28,9 +33,13 @@ import java.lang.reflect.Method;
  *
  * @author Yat
  */
-public class JetCacheInterceptor implements MethodInterceptor, ApplicationContextAware {
+public class JetCacheInterceptor implements MethodInterceptor, ApplicationContextAware, SmartInitializingSingleton {
 
     private static final Logger logger = LoggerFactory.getLogger(JetCacheInterceptor.class);
+    /**
+     * 启动时预先创建缓存的最长等待时间
+     */
+    private static final Duration EAGER_INIT_TIMEOUT = Duration.ofSeconds(30);
     /**
      * 注入Spring上下文中的ConfigMap实例
      */
@@ -54,12 +63,51 @@ public class JetCacheInterceptor implements MethodInterceptor, ApplicationContex
      * 缓存管理器，用于实际的缓存操作
      */
     JetCacheManager jetCacheManager;
+    /**
+     * 缓存上下文，无状态，首次调用时创建后复用
+     */
+    private volatile CacheContext cacheContext;
+    /**
+     * 按目标类与方法缓存已解析的调用配置，稳定运行时每次调用只需一次查表，不再拼接方法签名字符串
+     */
+    private final ClassValue<Map<Method, CacheInvokeConfig>> invokeConfigs = new ClassValue<>() {
+        @Override
+        protected Map<Method, CacheInvokeConfig> computeValue(@NonNull Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     @Override
     public void setApplicationContext(@NonNull ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
 
+    /**
+     * 所有单例创建完成后，切点已匹配过全部 Bean 的方法，此时按配置预先创建已指定名称的方法缓存，
+     * 把缓存的创建与远程连接的建立从首次请求移到应用就绪之前。
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        ConfigProvider cp = applicationContext.getBeanProvider(ConfigProvider.class).getIfAvailable();
+        if (cp == null || cacheConfigMap == null) {
+            return;
+        }
+        GlobalCacheConfig gcc = cp.getGlobalCacheConfig();
+        if (gcc == null || !gcc.isEnableMethodCache() || !gcc.isEagerCacheInit()) {
+            return;
+        }
+        JetCacheManager manager = applicationContext.getBeanProvider(JetCacheManager.class).getIfAvailable();
+        if (manager == null) {
+            return;
+        }
+        configProvider = cp;
+        globalCacheConfig = gcc;
+        jetCacheManager = manager;
+        CacheContext cc = cp.newContext(manager);
+        cacheContext = cc;
+        cc.initCaches(cacheConfigMap.getNamedCachedConfigs(), EAGER_INIT_TIMEOUT);
+    }
+
     /**
      * 拦截方法调用的入口。
      *
@@ -96,9 +144,7 @@ public class JetCacheInterceptor implements MethodInterceptor, ApplicationContex
         // 获取方法的缓存配置
         CacheInvokeConfig cac = null;
         if (obj != null) {
-            // 根据方法和对象类生成键，查找特定的缓存调用配置
-            String key = CachePointcut.getKey(method, obj.getClass());
-            cac = cacheConfigMap.getByMethodInfo(key);
+            cac = getInvokeConfig(method, obj.getClass());
         }
 
         if (logger.isTraceEnabled()) {
@@ -115,8 +161,12 @@ public class JetCacheInterceptor implements MethodInterceptor, ApplicationContex
         }
 
         // 创建缓存调用上下文并设置相关参数
-        CacheInvokeContext context = configProvider.newContext(jetCacheManager)
-                .createCacheInvokeContext(cacheConfigMap);
+        CacheContext cc = cacheContext;
+        if (cc == null) {
+            cc = configProvider.newContext(jetCacheManager);
+            cacheContext = cc;
+        }
+        CacheInvokeContext context = cc.createCacheInvokeContext(cacheConfigMap);
         context.setTargetObject(invocation.getThis());
         context.setInvoker(invocation::proceed);
         context.setMethod(method);
@@ -127,4 +177,23 @@ public class JetCacheInterceptor implements MethodInterceptor, ApplicationContex
         return CacheHandler.invoke(context);
     }
 
+    /**
+     * 获取方法的缓存调用配置，首次按方法签名从 {@link ConfigMap} 中查找后缓存到按类区分的表中。
+     *
+     * @param method      方法
+     * @param targetClass 目标类
+     * @return 缓存调用配置，不存在时返回 null
+     */
+    private CacheInvokeConfig getInvokeConfig(Method method, Class<?> targetClass) {
+        Map<Method, CacheInvokeConfig> configs = invokeConfigs.get(targetClass);
+        CacheInvokeConfig cac = configs.get(method);
+        if (cac == null) {
+            // 根据方法和对象类生成键，查找特定的缓存调用配置
+            cac = cacheConfigMap.getByMethodInfo(CachePointcut.getKey(method, targetClass));
+            if (cac != null) {
+                configs.put(method, cac);
+            }
+        }
+        return cac;
+    }
 }
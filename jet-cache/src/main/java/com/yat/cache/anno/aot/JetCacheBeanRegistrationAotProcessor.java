@@ -0,0 +1,122 @@
+package com.yat.cache.anno.aot;
+
+import com.yat.cache.anno.api.EnableJetCache;
+import com.yat.cache.anno.api.JetCacheInvalidate;
+import com.yat.cache.anno.api.JetCacheInvalidateContainer;
+import com.yat.cache.anno.api.JetCacheUpdate;
+import com.yat.cache.anno.api.JetCached;
+import com.yat.cache.anno.method.ParameterNames;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ClassName JetCacheBeanRegistrationAotProcessor
+ * <p>Description 在 AOT 构建阶段处理使用了缓存注解的 Bean</p>
+ * <p>
+ * 对每个 Bean 类及其父类、接口中声明了缓存注解的方法：
+ * 注册方法与声明类的反射提示，使 {@code CachePointcut} 与 {@code CacheConfigUtil} 在原生镜像中可以读取注解；
+ * 同时按声明类生成参数名索引资源，运行时表达式求值直接读取索引，不再解析字节码获取参数名。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/21 15:45
+ * version 1.0
+ */
+public class JetCacheBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    /**
+     * 已生成参数名索引的声明类，多个 Bean 共享同一个父类或接口时只生成一次
+     */
+    private final Set<Class<?>> indexedClasses = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(@NonNull RegisteredBean registeredBean) {
+        Map<Class<?>, List<Method>> methods = new LinkedHashMap<>();
+        collect(registeredBean.getBeanClass(), methods);
+        if (methods.isEmpty()) {
+            return null;
+        }
+        return (generationContext, beanRegistrationCode) -> {
+            RuntimeHints hints = generationContext.getRuntimeHints();
+            for (Map.Entry<Class<?>, List<Method>> e : methods.entrySet()) {
+                Class<?> type = e.getKey();
+                hints.reflection().registerType(type, MemberCategory.INTROSPECT_DECLARED_METHODS);
+                Properties index = new Properties();
+                for (Method m : e.getValue()) {
+                    hints.reflection().registerMethod(m, ExecutableMode.INVOKE);
+                    String[] names = parameterNameDiscoverer.getParameterNames(m);
+                    if (names != null) {
+                        index.setProperty(ParameterNames.indexKey(m), String.join(",", names));
+                    }
+                }
+                if (!index.isEmpty() && indexedClasses.add(type)) {
+                    generationContext.getGeneratedFiles()
+                            .addResourceFile(ParameterNames.indexLocation(type), toString(index));
+                }
+            }
+        };
+    }
+
+    /**
+     * 收集类及其父类、接口中声明了缓存注解的方法，按声明类分组
+     *
+     * @param type    类
+     * @param methods 收集结果
+     */
+    private void collect(Class<?> type, Map<Class<?>, List<Method>> methods) {
+        if (type == null || type == Object.class || methods.containsKey(type)) {
+            return;
+        }
+        List<Method> list = new ArrayList<>();
+        for (Method m : type.getDeclaredMethods()) {
+            if (isAnnotated(m)) {
+                list.add(m);
+            }
+        }
+        if (!list.isEmpty()) {
+            methods.put(type, list);
+        }
+        collect(type.getSuperclass(), methods);
+        for (Class<?> i : type.getInterfaces()) {
+            collect(i, methods);
+        }
+    }
+
+    private static boolean isAnnotated(Method m) {
+        return m.isAnnotationPresent(JetCached.class)
+                || m.isAnnotationPresent(JetCacheInvalidate.class)
+                || m.isAnnotationPresent(JetCacheInvalidateContainer.class)
+                || m.isAnnotationPresent(JetCacheUpdate.class)
+                || m.isAnnotationPresent(EnableJetCache.class);
+    }
+
+    private static String toString(Properties index) {
+        StringWriter w = new StringWriter();
+        try {
+            index.store(w, "JetCache parameter names");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return w.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.yat.cache.anno.aot;
+
+import com.yat.cache.anno.api.EnableJetCache;
+import com.yat.cache.anno.api.JetCacheInvalidate;
+import com.yat.cache.anno.api.JetCacheInvalidateContainer;
+import com.yat.cache.anno.api.JetCachePenetrationProtect;
+import com.yat.cache.anno.api.JetCacheRefresh;
+import com.yat.cache.anno.api.JetCacheUpdate;
+import com.yat.cache.anno.api.JetCached;
+import com.yat.cache.anno.method.ParameterNames;
+import com.yat.cache.core.CacheValueHolder;
+import com.yat.cache.core.support.CacheMessage;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * ClassName JetCacheRuntimeHints
+ * <p>Description JetCache 运行时需要的反射、序列化与资源提示</p>
+ * <p>
+ * 缓存注解在运行时通过反射读取，缓存值与广播消息由 JSON/Java 编码器按字段序列化，
+ * 参数名索引以资源文件形式读取，AOT 优化后的应用需要提前声明这些访问。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/21 15:30
+ * version 1.0
+ */
+public class JetCacheRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(@NonNull RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        Class<?>[] annotations = {
+                JetCached.class, JetCacheInvalidate.class, JetCacheInvalidateContainer.class, JetCacheUpdate.class,
+                JetCacheRefresh.class, JetCachePenetrationProtect.class, EnableJetCache.class
+        };
+        for (Class<?> a : annotations) {
+            hints.reflection().registerType(a, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        for (Class<?> c : new Class<?>[]{CacheValueHolder.class, CacheMessage.class}) {
+            hints.reflection().registerType(c, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+            hints.serialization().registerType(c);
+        }
+        hints.resources().registerPattern(ParameterNames.INDEX_LOCATION + "*.properties");
+    }
+}
@@ -0,0 +1,24 @@
+package com.yat.cache.anno.api;
+
+/**
+ * ClassName CacheWriteMode
+ * <p>Description @JetCacheInvalidate/@JetCacheUpdate 的缓存写入方式</p>
+ *
+ * @author Yat
+ * Date 2024/10/21 10:20
+ * version 1.0
+ */
+public enum CacheWriteMode {
+    /**
+     * 方法返回前逐个执行并等待完成
+     */
+    SYNC,
+    /**
+     * 方法返回后异步执行，同一次调用中对同一缓存的操作合并为一次 REMOVE_ALL/PUT_ALL，不同调用之间不保证顺序
+     */
+    ASYNC,
+    /**
+     * 与 {@link #ASYNC} 相同，但对同一缓存的异步操作按提交顺序依次执行
+     */
+    ASYNC_ORDERED
+}
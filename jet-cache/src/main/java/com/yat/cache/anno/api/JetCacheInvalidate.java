@@ -60,4 +60,12 @@ public @interface JetCacheInvalidate {
      * @return 是否对可迭代键中的每个元素进行无效化操作
      */
     boolean multi() default DefaultCacheConstant.DEFAULT_MULTI;
+
+    /**
+     * 失效操作的执行方式，默认在方法返回前同步执行。
+     * 异步执行时，同一次调用中对同一缓存的失效与更新合并为一次批量操作，失败时自动重试。
+     *
+     * @return 执行方式
+     */
+    CacheWriteMode writeMode() default CacheWriteMode.SYNC;
 }
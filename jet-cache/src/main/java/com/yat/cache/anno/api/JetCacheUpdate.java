@@ -63,4 +63,12 @@ public @interface JetCacheUpdate {
      * @return 是否对可迭代键和值进行批量更新
      */
     boolean multi() default DefaultCacheConstant.DEFAULT_MULTI;
+
+    /**
+     * 更新操作的执行方式，默认在方法返回前同步执行。
+     * 异步执行时，同一次调用中对同一缓存的失效与更新合并为一次批量操作，失败时自动重试。
+     *
+     * @return 执行方式
+     */
+    CacheWriteMode writeMode() default CacheWriteMode.SYNC;
 }
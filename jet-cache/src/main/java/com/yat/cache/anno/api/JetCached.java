@@ -61,6 +61,15 @@ public @interface JetCached {
      */
     int expire() default DefaultCacheConstant.UNDEFINED_INT;
 
+    /**
+     * 按方法结果计算单个条目过期时间的表达式脚本，在方法真正调用之后评估，可以引用 result。
+     * 结果按 {@link #timeUnit()} 解释，为 null 或不大于 0 时使用 {@link #expire()}。
+     * 例如根据对象自身的有效期缓存：{@code #result.ttlSeconds}
+     *
+     * @return 过期时间表达式脚本
+     */
+    String expireExpression() default DefaultCacheConstant.UNDEFINED_STRING;
+
     /**
      * 当缓存类型为 {@link CacheType#BOTH} 时，指定本地缓存的过期时间。
      * 如果未指定，则使用 expire 属性
@@ -129,6 +138,15 @@ public @interface JetCached {
      */
     boolean cacheNullValue() default DefaultCacheConstant.DEFAULT_CACHE_NULL_VALUE;
 
+    /**
+     * 缓存查询的延迟预算，单位毫秒。大于 0 时，缓存查询在预算内没有返回就按未命中处理，直接调用原方法，
+     * 加载后的写回也不再等待结果，缓存变慢时请求耗时不会超过不使用缓存时的耗时。
+     * 此模式下不使用穿透保护与自动刷新。批量方法按整批查询计时，返回 CompletionStage 的方法超时后同样直接调用原方法。
+     *
+     * @return 延迟预算，默认不限制
+     */
+    int latencyBudget() default DefaultCacheConstant.UNDEFINED_INT;
+
     /**
      * 用于条件控制方法缓存的表达式脚本，在方法真正调用之前评估。
      * 如果评估结果为 false，则不使用缓存。
@@ -146,4 +164,29 @@ public @interface JetCached {
      */
     String postCondition() default DefaultCacheConstant.UNDEFINED_STRING;
 
+    /**
+     * 批量模式。开启后集合参数中的每个元素单独作为一个缓存条目：
+     * 先批量查询缓存，只用未命中的元素调用原方法，再按参数顺序组装结果并批量写入新条目。
+     * 每个元素的键与以该元素为参数的单个查询的默认键相同（其余参数保持不变），
+     * 返回值必须是 {@link java.util.Map}（以元素为键）或集合（需指定 {@link #batchResultKey()}）。
+     * 批量模式下不能指定 {@link #key()}。
+     *
+     * @return 是否开启批量模式
+     */
+    boolean batch() default false;
+
+    /**
+     * 批量模式下集合参数的下标，未指定时使用唯一的集合或数组类型参数
+     *
+     * @return 集合参数的下标
+     */
+    int batchParamIndex() default DefaultCacheConstant.UNDEFINED_INT;
+
+    /**
+     * 批量模式下返回值为集合时，从每个结果元素中取出对应参数元素的表达式脚本，根对象为结果元素，
+     * 例如 {@code id} 或 {@code mvel{id}}
+     *
+     * @return 结果元素的键表达式脚本
+     */
+    String batchResultKey() default DefaultCacheConstant.UNDEFINED_STRING;
 }
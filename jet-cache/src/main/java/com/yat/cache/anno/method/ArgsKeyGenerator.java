@@ -0,0 +1,165 @@
+package com.yat.cache.anno.method;
+
+import com.yat.cache.core.CacheConfig;
+import com.yat.cache.core.JetCache;
+import com.yat.cache.core.MultiLevelCacheConfig;
+import com.yat.cache.core.support.convertor.GsonKeyConvertor;
+import com.yat.cache.core.support.convertor.JacksonKeyConvertor;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * ClassName ArgsKeyGenerator
+ * <p>Description 按方法参数类型预先生成的缓存键构建器</p>
+ * <p>
+ * 未指定 key 时默认以参数数组作为键，每次调用都要经过 Jackson/Gson 的反射序列化。
+ * 参数全部为字符串、整数、布尔、字符等简单类型时，在创建键评估器时按参数类型选定每个位置的写入方式，
+ * 直接拼出与键转换器输出完全相同的 JSON 数组文本，键转换器对字符串直接放行，最终的键不变。
+ * </p>
+ * <p>
+ * 只在缓存各级都使用内置的 Jackson/Gson 键转换器时启用；字符串中出现两者转义规则不同的字符时，
+ * 该次调用退回为参数数组，由键转换器处理。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/19 16:05
+ * version 1.0
+ */
+final class ArgsKeyGenerator implements Function<Object, Object> {
+
+    /**
+     * 无法生成时返回的标记，调用方退回为参数数组
+     */
+    private static final Object FALLBACK = new Object();
+
+    private final ArgWriter[] writers;
+
+    private ArgsKeyGenerator(ArgWriter[] writers) {
+        this.writers = writers;
+    }
+
+    /**
+     * 根据方法的参数类型创建键构建器。
+     *
+     * @param method   定义缓存的方法
+     * @param jetCache 方法使用的缓存实例
+     * @return 键构建器，不支持时返回 null
+     */
+    static ArgsKeyGenerator create(Method method, JetCache<?, ?> jetCache) {
+        if (method == null || jetCache == null || !isJsonKeyConvertor(jetCache.config())) {
+            return null;
+        }
+        Class<?>[] types = method.getParameterTypes();
+        if (types.length == 0) {
+            return null;
+        }
+        ArgWriter[] writers = new ArgWriter[types.length];
+        for (int i = 0; i < types.length; i++) {
+            writers[i] = writerFor(types[i]);
+            if (writers[i] == null) {
+                return null;
+            }
+        }
+        return new ArgsKeyGenerator(writers);
+    }
+
+    /**
+     * 各级缓存是否都使用内置的 JSON 键转换器
+     */
+    private static boolean isJsonKeyConvertor(CacheConfig<?, ?> config) {
+        if (config instanceof MultiLevelCacheConfig<?, ?> mlc) {
+            if (mlc.getCaches().isEmpty()) {
+                return false;
+            }
+            for (JetCache<?, ?> c : mlc.getCaches()) {
+                if (!isJsonKeyConvertor(c.config())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Object keyConvertor = config.getKeyConvertor();
+        return keyConvertor == JacksonKeyConvertor.INSTANCE || keyConvertor == GsonKeyConvertor.INSTANCE;
+    }
+
+    private static ArgWriter writerFor(Class<?> type) {
+        if (type == String.class) {
+            return (sb, arg) -> appendString(sb, (String) arg);
+        } else if (type == char.class || type == Character.class) {
+            return (sb, arg) -> appendString(sb, String.valueOf((char) (Character) arg));
+        } else if (type == int.class || type == Integer.class || type == long.class || type == Long.class
+                || type == short.class || type == Short.class || type == byte.class || type == Byte.class) {
+            return (sb, arg) -> {
+                sb.append(((Number) arg).longValue());
+                return true;
+            };
+        } else if (type == boolean.class || type == Boolean.class) {
+            return (sb, arg) -> {
+                sb.append(((Boolean) arg).booleanValue());
+                return true;
+            };
+        }
+        return null;
+    }
+
+    /**
+     * 写入 JSON 字符串，只转义双引号与反斜杠；遇到 Jackson 与 Gson 转义结果不同的字符时返回 false
+     */
+    private static boolean appendString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x20 || c == '<' || c == '>' || c == '&' || c == '=' || c == '\''
+                    || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+        return true;
+    }
+
+    @Override
+    public Object apply(Object o) {
+        Object[] args = ((CacheInvokeContext) o).getArgs();
+        Object key = build(args);
+        return key == FALLBACK ? args : key;
+    }
+
+    private Object build(Object[] args) {
+        if (args == null || args.length != writers.length) {
+            return FALLBACK;
+        }
+        StringBuilder sb = new StringBuilder(16 * args.length);
+        sb.append('[');
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Object arg = args[i];
+            if (arg == null) {
+                sb.append("null");
+            } else if (!writers[i].write(sb, arg)) {
+                return FALLBACK;
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    @FunctionalInterface
+    private interface ArgWriter {
+        /**
+         * 写入单个非空参数。
+         *
+         * @param sb  目标
+         * @param arg 参数
+         * @return 是否写入成功，失败时整个键退回为参数数组
+         */
+        boolean write(StringBuilder sb, Object arg);
+    }
+}
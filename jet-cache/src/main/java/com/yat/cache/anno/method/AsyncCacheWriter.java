@@ -0,0 +1,237 @@
+package com.yat.cache.anno.method;
+
+import com.yat.cache.anno.api.CacheWriteMode;
+import com.yat.cache.core.CacheResultCode;
+import com.yat.cache.core.JetCache;
+import com.yat.cache.core.support.JetCacheExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ClassName AsyncCacheWriter
+ * <p>Description 异步执行 @JetCacheInvalidate/@JetCacheUpdate 的缓存写入</p>
+ * <p>
+ * 一次方法调用对应一个实例：调用中对同一缓存、同一写入方式的失效与更新先收集起来，
+ * 方法返回前提交为一个任务，先 REMOVE_ALL 再 PUT_ALL，与同步执行时先失效后更新的顺序一致。
+ * 写入失败时按指数退避重试，仍失败时记录错误日志；每次 REMOVE_ALL/PUT_ALL 的结果照常通知缓存监控，
+ * 失败次数体现在对应缓存的统计中。
+ * </p>
+ * <p>
+ * 写入通过组合 REMOVE_ALL/PUT_ALL 的 future 完成，不占用线程等待结果。未完成的任务数超过
+ * {@link #MAX_PENDING} 时，调用线程等待本次提交的写入完成后再返回，以此限制积压。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/21 10:35
+ * version 1.0
+ */
+final class AsyncCacheWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCacheWriter.class);
+    /**
+     * 失败后的最大重试次数
+     */
+    private static final int MAX_RETRIES = 2;
+    /**
+     * 首次重试的延迟（毫秒），之后每次翻倍
+     */
+    private static final long RETRY_DELAY_MILLIS = 100;
+    /**
+     * 未完成任务数的上限
+     */
+    private static final int MAX_PENDING = 10000;
+    /**
+     * 已提交但未完成的任务数，包括等待重试以及 {@link CacheWriteMode#ASYNC_ORDERED} 模式下排在前一个任务之后的任务
+     */
+    private static final AtomicInteger pending = new AtomicInteger();
+    /**
+     * 是否处于积压超限状态，只在进入该状态时记录一次日志
+     */
+    private static final AtomicBoolean overloaded = new AtomicBoolean();
+    /**
+     * {@link CacheWriteMode#ASYNC_ORDERED} 模式下每个缓存最后提交的任务，新任务在其完成后执行
+     */
+    private static final ConcurrentHashMap<JetCache<?, ?>, CompletableFuture<Void>> orderedTails =
+            new ConcurrentHashMap<>();
+
+    private final Map<BatchKey, Batch> batches = new LinkedHashMap<>();
+
+    /**
+     * 收集需要失效的键。
+     *
+     * @param jetCache 缓存实例
+     * @param mode     写入方式
+     * @param keys     键
+     * @param onDone   写入最终完成（成功或重试耗尽）后执行的回调，可以为 null
+     */
+    void remove(JetCache<Object, Object> jetCache, CacheWriteMode mode, Collection<?> keys, Runnable onDone) {
+        Batch b = batch(jetCache, mode);
+        b.removes.addAll(keys);
+        b.addCallback(onDone);
+    }
+
+    /**
+     * 收集需要更新的键值对。
+     *
+     * @param jetCache 缓存实例
+     * @param mode     写入方式
+     * @param entries  键值对
+     * @param onDone   写入最终完成（成功或重试耗尽）后执行的回调，可以为 null
+     */
+    void put(JetCache<Object, Object> jetCache, CacheWriteMode mode, Map<?, ?> entries, Runnable onDone) {
+        Batch b = batch(jetCache, mode);
+        b.puts.putAll(entries);
+        b.addCallback(onDone);
+    }
+
+    /**
+     * 提交收集到的全部写入，不等待执行结果。
+     */
+    void submit() {
+        int n = pending.get();
+        boolean wait = n >= MAX_PENDING;
+        if (!wait) {
+            if (overloaded.get()) {
+                overloaded.set(false);
+            }
+        } else if (overloaded.compareAndSet(false, true)) {
+            logger.warn("too many pending async cache writes: {}, callers wait for their writes to finish", n);
+        }
+        for (Map.Entry<BatchKey, Batch> e : batches.entrySet()) {
+            Batch b = e.getValue();
+            CompletableFuture<Void> done = track();
+            for (Runnable callback : b.callbacks) {
+                done.whenComplete((v, ex) -> callback.run());
+            }
+            if (e.getKey().mode() == CacheWriteMode.ASYNC_ORDERED) {
+                JetCache<?, ?> cache = b.jetCache;
+                orderedTails.compute(cache, (c, tail) -> {
+                    if (tail == null) {
+                        execute(b, done);
+                    } else {
+                        tail.whenComplete((v, ex) -> execute(b, done));
+                    }
+                    return done;
+                });
+                done.whenComplete((v, ex) -> orderedTails.remove(cache, done));
+            } else {
+                execute(b, done);
+            }
+            if (wait) {
+                done.join();
+            }
+        }
+        batches.clear();
+    }
+
+    private Batch batch(JetCache<Object, Object> jetCache, CacheWriteMode mode) {
+        return batches.computeIfAbsent(new BatchKey(jetCache, mode), k -> new Batch(jetCache));
+    }
+
+    /**
+     * 创建一个任务最终完成（成功或重试耗尽）时完成的 future，不会异常完成。
+     * 任务从提交起计入未完成任务数，直到该 future 完成。
+     *
+     * @return 任务完成的 future
+     */
+    private static CompletableFuture<Void> track() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        pending.incrementAndGet();
+        done.whenComplete((v, ex) -> pending.decrementAndGet());
+        return done;
+    }
+
+    /**
+     * 在 IO 线程池中执行一个任务
+     *
+     * @param b    任务
+     * @param done 任务完成的 future
+     */
+    private static void execute(Batch b, CompletableFuture<Void> done) {
+        JetCacheExecutor.heavyIOExecutor().execute(() -> attempt(b, 0, done));
+    }
+
+    private static void attempt(Batch b, int retries, CompletableFuture<Void> done) {
+        CompletableFuture<Boolean> result;
+        try {
+            result = b.apply();
+        } catch (Throwable e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((success, ex) -> {
+            if (ex != null) {
+                logger.warn("async cache write error. cache={}", b.jetCache, ex);
+            }
+            onResult(b, retries, done, ex == null && success);
+        });
+    }
+
+    private static void onResult(Batch b, int retries, CompletableFuture<Void> done, boolean success) {
+        if (success) {
+            done.complete(null);
+        } else if (retries < MAX_RETRIES) {
+            JetCacheExecutor.heavyIOExecutor().schedule(() -> attempt(b, retries + 1, done),
+                    RETRY_DELAY_MILLIS << retries, TimeUnit.MILLISECONDS);
+        } else {
+            logger.error("async cache write failed after {} retries. cache={}, removes={}, puts={}",
+                    MAX_RETRIES, b.jetCache, b.removes.size(), b.puts.size());
+            done.complete(null);
+        }
+    }
+
+    private record BatchKey(JetCache<?, ?> jetCache, CacheWriteMode mode) {
+    }
+
+    /**
+     * 同一缓存、同一写入方式的合并写入
+     */
+    private static final class Batch {
+        private final JetCache<Object, Object> jetCache;
+        private final Set<Object> removes = new LinkedHashSet<>();
+        private final Map<Object, Object> puts = new LinkedHashMap<>();
+        private final List<Runnable> callbacks = new ArrayList<>();
+
+        private Batch(JetCache<Object, Object> jetCache) {
+            this.jetCache = jetCache;
+        }
+
+        private void addCallback(Runnable callback) {
+            if (callback != null) {
+                callbacks.add(callback);
+            }
+        }
+
+        /**
+         * 执行写入，REMOVE_ALL 成功后再 PUT_ALL，不等待结果
+         *
+         * @return 写入全部成功时为 true 的 future
+         */
+        private CompletableFuture<Boolean> apply() {
+            CompletableFuture<Boolean> removed = removes.isEmpty()
+                    ? CompletableFuture.completedFuture(true)
+                    : jetCache.REMOVE_ALL(removes).future().toCompletableFuture()
+                    .thenApply(rd -> rd.getResultCode() == CacheResultCode.SUCCESS);
+            if (puts.isEmpty()) {
+                return removed;
+            }
+            // PUT_ALL 可能写入本地磁盘等阻塞的缓存层，不在 REMOVE_ALL 完成的 IO 线程上执行
+            return removed.thenComposeAsync(ok -> !ok ? CompletableFuture.completedFuture(false)
+                    : jetCache.PUT_ALL(puts).future().toCompletableFuture()
+                    .thenApply(rd -> rd.getResultCode() == CacheResultCode.SUCCESS),
+                    JetCacheExecutor.heavyIOExecutor());
+        }
+    }
+}
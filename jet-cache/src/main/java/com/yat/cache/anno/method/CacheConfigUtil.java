@@ -14,11 +14,18 @@ import com.yat.cache.anno.support.CachedAnnoConfig;
 import com.yat.cache.anno.support.PenetrationProtectConfig;
 import com.yat.cache.core.RefreshPolicy;
 import com.yat.cache.core.exception.CacheConfigException;
+import com.yat.cache.core.support.encoders.ClassRegistry;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -93,8 +100,10 @@ public class CacheConfigUtil {
         cc.setLocalExpire(anno.localExpire());
         cc.setLocalLimit(anno.localLimit());
         cc.setCacheNullValue(anno.cacheNullValue());
+        cc.setLatencyBudget(anno.latencyBudget());
         cc.setCondition(anno.condition());
         cc.setPostCondition(anno.postCondition());
+        cc.setExpireExpression(anno.expireExpression());
         // 将缓存注释配置的序列化策略设置到缓存的配置中
         cc.setSerialPolicy(anno.serialPolicy());
         // 设置键转换器
@@ -103,6 +112,15 @@ public class CacheConfigUtil {
         cc.setKey(anno.key());
         // 关联当前方法作为定义方法
         cc.setDefineMethod(m);
+        // 返回 CompletionStage 的方法缓存异步结果的值
+        Class<?> returnType = m.getReturnType();
+        cc.setAsyncResult(CompletionStage.class.isAssignableFrom(returnType)
+                && returnType.isAssignableFrom(CompletableFuture.class));
+        if (anno.batch()) {
+            parseBatch(cc, anno, m);
+        }
+        // 记录返回类型，区域开启类编号发现时注册到类编号注册表
+        ClassRegistry.defaultInstance().discover(anno.area(), m.getGenericReturnType());
 
         JetCacheRefresh jetCacheRefresh = m.getAnnotation(JetCacheRefresh.class);
         if (jetCacheRefresh != null) {
@@ -121,6 +139,56 @@ public class CacheConfigUtil {
         return cc;
     }
 
+    /**
+     * 解析并校验批量模式的配置
+     *
+     * @param cc   缓存配置
+     * @param anno 缓存注解
+     * @param m    定义方法
+     */
+    private static void parseBatch(CachedAnnoConfig cc, JetCached anno, Method m) {
+        if (!DefaultCacheConstant.isUndefined(anno.key())) {
+            throw new CacheConfigException("@JetCached(batch = true) can't specify key: " + m);
+        }
+        Class<?>[] paramTypes = m.getParameterTypes();
+        int index = anno.batchParamIndex();
+        if (index == DefaultCacheConstant.UNDEFINED_INT) {
+            for (int i = 0; i < paramTypes.length; i++) {
+                if (isBatchParamType(paramTypes[i])) {
+                    if (index != DefaultCacheConstant.UNDEFINED_INT) {
+                        throw new CacheConfigException("batchParamIndex is required when there are " +
+                                "multiple collection parameters: " + m);
+                    }
+                    index = i;
+                }
+            }
+        }
+        if (index < 0 || index >= paramTypes.length || !isBatchParamType(paramTypes[index])) {
+            throw new CacheConfigException("@JetCached(batch = true) requires a collection or array parameter: " + m);
+        }
+        Class<?> returnType = m.getReturnType();
+        boolean mapResult = Map.class.isAssignableFrom(returnType)
+                && returnType.isAssignableFrom(LinkedHashMap.class);
+        boolean collectionResult = !mapResult && (returnType == List.class
+                || returnType == Collection.class || returnType == Set.class
+                || returnType == Iterable.class);
+        if (!mapResult && !collectionResult) {
+            throw new CacheConfigException("@JetCached(batch = true) requires Map, List, Set or Collection " +
+                    "return type: " + m);
+        }
+        if (collectionResult && DefaultCacheConstant.isUndefined(anno.batchResultKey())) {
+            throw new CacheConfigException("@JetCached(batch = true) requires batchResultKey when return type " +
+                    "is a collection: " + m);
+        }
+        cc.setBatch(true);
+        cc.setBatchParamIndex(index);
+        cc.setBatchResultKey(collectionResult ? anno.batchResultKey() : null);
+    }
+
+    private static boolean isBatchParamType(Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type);
+    }
+
     /**
      * 解析方法上是否标注了 EnableCache 注解
      *
@@ -202,6 +270,7 @@ public class CacheConfigUtil {
         // 设置@CacheUpdate注解的condition和multi属性，并关联到定义该注解的方法
         cc.setCondition(anno.condition());
         cc.setMulti(anno.multi());
+        cc.setWriteMode(anno.writeMode());
         cc.setDefineMethod(m);
 
         // 返回包含注解配置信息的CacheUpdateAnnoConfig对象
@@ -295,6 +364,7 @@ public class CacheConfigUtil {
         cc.setCondition(anno.condition());
         // 设置是否支持多值失效
         cc.setMulti(anno.multi());
+        cc.setWriteMode(anno.writeMode());
         // 设置定义该缓存失效行为的方法
         cc.setDefineMethod(m);
 
@@ -1,16 +1,25 @@
 package com.yat.cache.anno.method;
 
+import com.yat.cache.anno.api.CacheWriteMode;
+import com.yat.cache.anno.api.DefaultCacheConstant;
 import com.yat.cache.anno.support.CacheContext;
 import com.yat.cache.anno.support.CacheInvalidateAnnoConfig;
 import com.yat.cache.anno.support.CacheUpdateAnnoConfig;
 import com.yat.cache.anno.support.CachedAnnoConfig;
 import com.yat.cache.anno.support.ConfigMap;
+import com.yat.cache.anno.support.ScopedMemo;
 import com.yat.cache.core.AbstractJetCache;
+import com.yat.cache.core.CacheGetResult;
 import com.yat.cache.core.CacheLoader;
+import com.yat.cache.core.CacheResultCode;
 import com.yat.cache.core.JetCache;
+import com.yat.cache.core.MultiGetResult;
 import com.yat.cache.core.ProxyJetCache;
+import com.yat.cache.core.ResultData;
 import com.yat.cache.core.event.CacheLoadEvent;
 import com.yat.cache.core.exception.CacheInvokeException;
+import com.yat.cache.core.support.JetCacheExecutor;
+import com.yat.cache.core.support.MethodStatRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,11 +28,21 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -137,35 +156,454 @@ public class CacheHandler implements InvocationHandler {
             return invokeOrigin(context);
         }
 
+        MethodStatRecorder recorder = statRecorder(context, cac);
+        if (cac.isBatch()) {
+            return invokeBatch(context, jetCache, cac);
+        }
+
+        long keyStart = recorder == null ? 0 : System.nanoTime();
         Object key = ExpressionUtil.evalKey(context, cic.getCachedAnnoConfig());
+        if (recorder != null) {
+            recorder.recordInvoke(System.nanoTime() - keyStart);
+        }
         if (key == null) {
+            if (recorder != null) {
+                recorder.recordKeyNull();
+            }
             return loadAndCount(context, jetCache, null);
         }
 
         if (!ExpressionUtil.evalCondition(context, cic.getCachedAnnoConfig())) {
+            if (recorder != null) {
+                recorder.recordConditionVeto();
+            }
             return loadAndCount(context, jetCache, key);
         }
 
+        if (cac.isAsyncResult()) {
+            return invokeAsync(context, jetCache, key, cac);
+        }
+
+        ScopedMemo memo = CacheContextSupport._currentMemo();
+        if (memo != null) {
+            Object v = memo.get(jetCache, key);
+            if (v != ScopedMemo.MISS) {
+                if (recorder != null) {
+                    recorder.recordHit();
+                }
+                return v;
+            }
+        }
+
+        // postCondition 否决写入缓存时同样不记录到备忘表
+        boolean[] vetoed = new boolean[1];
+        Object v;
+        if (cac.getLatencyBudget() > 0) {
+            v = invokeWithBudget(context, jetCache, key, cac, vetoed);
+        } else {
+            v = invokeWithLoader(context, jetCache, key, cac, vetoed);
+        }
+        if (memo != null && !vetoed[0] && (v != null || cac.isCacheNullValue())) {
+            memo.put(jetCache, key, v);
+        }
+        return v;
+    }
+
+    /**
+     * 通过 computeIfAbsent 查询缓存，未命中时调用原方法并写入缓存
+     *
+     * @param context  调用上下文
+     * @param jetCache 缓存实例
+     * @param key      缓存键
+     * @param cac      缓存注解配置
+     * @param vetoed   用于返回 postCondition 是否否决了写入
+     * @return 方法执行结果
+     * @throws Throwable 可能抛出的异常
+     */
+    private static Object invokeWithLoader(CacheInvokeContext context, JetCache jetCache, Object key,
+                                           CachedAnnoConfig cac, boolean[] vetoed) throws Throwable {
+        MethodStatRecorder recorder = context.getStatRecorder();
+        boolean[] loaded = new boolean[1];
         try {
             CacheLoader loader = new CacheLoader<>() {
                 @Override
                 public Object load(Object k) throws Throwable {
-                    Object result = invokeOrigin(context);
-                    context.setResult(result);
-                    return result;
+                    loaded[0] = true;
+                    long t = recorder == null ? 0 : System.currentTimeMillis();
+                    boolean success = false;
+                    try {
+                        Object result = invokeOrigin(context);
+                        context.setResult(result);
+                        success = true;
+                        return result;
+                    } finally {
+                        if (recorder != null) {
+                            recorder.recordLoad(System.currentTimeMillis() - t, success);
+                        }
+                    }
                 }
 
                 @Override
                 public boolean vetoCacheUpdate() {
-                    return !ExpressionUtil.evalPostCondition(context, cic.getCachedAnnoConfig());
+                    vetoed[0] = !ExpressionUtil.evalPostCondition(context, cac);
+                    if (vetoed[0] && recorder != null) {
+                        recorder.recordPostConditionVeto();
+                    }
+                    return vetoed[0];
+                }
+
+                @Override
+                public long expireAfterWrite(Object loadedValue) {
+                    return ExpressionUtil.evalExpire(context, cac);
                 }
             };
-            return jetCache.computeIfAbsent(key, loader);
+            Object v = jetCache.computeIfAbsent(key, loader);
+            if (recorder != null && !loaded[0]) {
+                recorder.recordHit();
+            }
+            return v;
         } catch (CacheInvokeException e) {
             throw e.getCause();
         }
     }
 
+    /**
+     * 在延迟预算内查询缓存，超时或查询失败时按未命中处理直接调用原方法，写回缓存时不等待结果
+     *
+     * @param context  调用上下文
+     * @param jetCache 缓存实例
+     * @param key      缓存键
+     * @param cac      缓存注解配置
+     * @param vetoed   用于返回 postCondition 是否否决了写入
+     * @return 方法执行结果
+     * @throws Throwable 可能抛出的异常
+     */
+    @SuppressWarnings("unchecked")
+    private static Object invokeWithBudget(CacheInvokeContext context, JetCache jetCache, Object key,
+                                           CachedAnnoConfig cac, boolean[] vetoed) throws Throwable {
+        MethodStatRecorder recorder = context.getStatRecorder();
+        CompletableFuture<ResultData> future = jetCache.GET(key).future().toCompletableFuture();
+        ResultData rd = null;
+        try {
+            rd = future.get(cac.getLatencyBudget(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.debug("cache get exceeds latency budget {}ms, fall back to origin. key={}",
+                    cac.getLatencyBudget(), key);
+        } catch (ExecutionException e) {
+            logger.warn("cache get error, fall back to origin. key={}", key, e.getCause());
+        }
+        if (rd != null && rd.getResultCode() == CacheResultCode.SUCCESS) {
+            if (recorder != null) {
+                recorder.recordHit();
+            }
+            return rd.getData();
+        }
+
+        Object v = loadAndCount(context, jetCache, key);
+        context.setResult(v);
+        if (v != null || cac.isCacheNullValue()) {
+            if (ExpressionUtil.evalPostCondition(context, cac)) {
+                // 不等待写入结果
+                long expire = ExpressionUtil.evalExpire(context, cac);
+                if (expire > 0) {
+                    jetCache.PUT(key, v, expire, TimeUnit.MILLISECONDS);
+                } else {
+                    jetCache.PUT(key, v);
+                }
+            } else {
+                vetoed[0] = true;
+                if (recorder != null) {
+                    recorder.recordPostConditionVeto();
+                }
+            }
+        }
+        return v;
+    }
+
+    /**
+     * 返回 {@link CompletionStage} 的方法的调用处理
+     * 命中时返回已完成的 future；未命中时调用原方法，在其结果完成后异步写入缓存。
+     * 缓存查询已完成时（如本地缓存）在当前线程继续；否则切换到 {@link JetCacheExecutor#loaderExecutor()}
+     * 并恢复调用线程的缓存上下文后调用原方法，既不阻塞调用线程，也不在 Redis 客户端的 IO 线程上执行业务代码。
+     * 原方法不在完成缓存 future 的线程池上执行，其中的同步缓存调用不会等待排在自己后面的任务
+     *
+     * @param context  调用上下文
+     * @param jetCache 缓存实例
+     * @param key      缓存键
+     * @param cac      缓存注解配置
+     * @return 结果 future
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object invokeAsync(CacheInvokeContext context, JetCache jetCache, Object key,
+                                      CachedAnnoConfig cac) {
+        CompletableFuture<Object> rt = new CompletableFuture<>();
+        CompletableFuture<ResultData> getFuture = jetCache.GET(key).future().toCompletableFuture();
+        if (cac.getLatencyBudget() > 0 && !getFuture.isDone()) {
+            // 在副本上计时，超时不影响缓存自身的 future
+            getFuture = getFuture.copy().orTimeout(cac.getLatencyBudget(), TimeUnit.MILLISECONDS);
+        }
+        BiConsumer<ResultData, Throwable> onGet = (rd, ex) -> {
+            MethodStatRecorder recorder = context.getStatRecorder();
+            if (ex instanceof TimeoutException) {
+                logger.debug("cache get exceeds latency budget {}ms, fall back to origin. key={}",
+                        cac.getLatencyBudget(), key);
+            }
+            if (ex == null && rd.getResultCode() == CacheResultCode.SUCCESS) {
+                if (recorder != null) {
+                    recorder.recordHit();
+                }
+                rt.complete(rd.getData());
+                return;
+            }
+            long t = System.currentTimeMillis();
+            CompletionStage<Object> stage;
+            try {
+                stage = (CompletionStage<Object>) invokeOrigin(context);
+            } catch (Throwable e) {
+                rt.completeExceptionally(e);
+                return;
+            }
+            if (stage == null) {
+                rt.complete(null);
+                return;
+            }
+            stage.whenComplete((v, e) -> {
+                long millis = System.currentTimeMillis() - t;
+                notifyLoad(jetCache, millis, key, v, e == null);
+                if (recorder != null) {
+                    recorder.recordLoad(millis, e == null);
+                }
+                if (e != null) {
+                    rt.completeExceptionally(e);
+                    return;
+                }
+                context.setResult(v);
+                try {
+                    if (v != null || cac.isCacheNullValue()) {
+                        if (ExpressionUtil.evalPostCondition(context, cac)) {
+                            long expire = ExpressionUtil.evalExpire(context, cac);
+                            if (expire > 0) {
+                                jetCache.PUT(key, v, expire, TimeUnit.MILLISECONDS);
+                            } else {
+                                jetCache.PUT(key, v);
+                            }
+                        } else if (recorder != null) {
+                            recorder.recordPostConditionVeto();
+                        }
+                    }
+                } catch (Throwable putError) {
+                    logger.error("put async result error. key={}", key, putError);
+                }
+                rt.complete(v);
+            });
+        };
+        if (getFuture.isDone()) {
+            getFuture.whenComplete(onGet);
+        } else {
+            getFuture.whenCompleteAsync(CacheContextSupport._propagateContext(onGet), JetCacheExecutor.loaderExecutor());
+        }
+        return rt;
+    }
+
+    /**
+     * 批量模式的调用处理
+     * 集合参数中的每个元素单独缓存：先批量查询缓存，只用未命中的元素调用原方法，
+     * 写入新加载的条目后按参数顺序组装结果。后置条件针对本次加载的部分结果评估
+     *
+     * @param context  调用上下文
+     * @param jetCache 缓存实例
+     * @param cac      缓存注解配置
+     * @return 组装后的结果
+     * @throws Throwable 可能抛出的异常
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object invokeBatch(CacheInvokeContext context, JetCache jetCache, CachedAnnoConfig cac)
+            throws Throwable {
+        MethodStatRecorder recorder = context.getStatRecorder();
+        if (!ExpressionUtil.evalCondition(context, cac)) {
+            if (recorder != null) {
+                recorder.recordInvoke(0);
+                recorder.recordConditionVeto();
+            }
+            return loadAndCount(context, jetCache, null);
+        }
+        Object[] args = context.getArgs();
+        int index = cac.getBatchParamIndex();
+        Object batchArg = args[index];
+        Iterable<Object> elements = batchArg == null ? null : toIterable(batchArg);
+        if (elements == null) {
+            if (recorder != null) {
+                recorder.recordInvoke(0);
+            }
+            return loadAndCount(context, jetCache, null);
+        }
+        // 参数元素到缓存键的映射，保持参数顺序并去重
+        Map<Object, Object> keys = new LinkedHashMap<>();
+        for (Object element : elements) {
+            if (element != null && !keys.containsKey(element)) {
+                keys.put(element, batchElementKey(args, index, element));
+            }
+        }
+        if (keys.isEmpty()) {
+            if (recorder != null) {
+                recorder.recordInvoke(0);
+            }
+            return loadAndCount(context, jetCache, null);
+        }
+
+        Set<Object> keySet = new HashSet<>(keys.values());
+        Map<Object, Object> hits = cac.getLatencyBudget() > 0
+                ? getAllWithBudget(jetCache, keySet, cac) : jetCache.getAll(keySet);
+        Map<Object, Object> values = new HashMap<>();
+        List<Object> missing = new ArrayList<>();
+        for (Map.Entry<Object, Object> en : keys.entrySet()) {
+            Object key = en.getValue();
+            if (hits != null && hits.containsKey(key)) {
+                values.put(en.getKey(), hits.get(key));
+            } else {
+                missing.add(en.getKey());
+            }
+        }
+        if (recorder != null) {
+            recorder.recordBatch(keys.size(), keys.size() - missing.size());
+        }
+
+        if (!missing.isEmpty()) {
+            // 只用未命中的元素调用原方法，调用结束后恢复原参数
+            Object result;
+            args[index] = toBatchArg(missing, cac.getDefineMethod().getParameterTypes()[index], batchArg);
+            try {
+                result = loadAndCount(context, jetCache, missing);
+            } finally {
+                args[index] = batchArg;
+            }
+            context.setResult(result);
+            Map<Object, Object> loaded = batchResultToMap(result, cac);
+            Map<Object, Object> newEntries = new HashMap<>();
+            for (Object element : missing) {
+                Object v = loaded.get(element);
+                if (v != null) {
+                    values.put(element, v);
+                }
+                if (v != null || cac.isCacheNullValue()) {
+                    newEntries.put(keys.get(element), v);
+                }
+            }
+            if (!newEntries.isEmpty() && ExpressionUtil.evalPostCondition(context, cac)) {
+                jetCache.putAll(newEntries);
+            }
+        }
+        return assembleBatchResult(keys.keySet(), values, cac.getDefineMethod().getReturnType());
+    }
+
+    /**
+     * 在延迟预算内批量查询缓存，超时或查询失败时返回 null，所有元素按未命中处理
+     *
+     * @param jetCache 缓存实例
+     * @param keys     缓存键集合
+     * @param cac      缓存注解配置
+     * @return 命中的键值映射
+     * @throws InterruptedException 等待时线程被中断
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Object> getAllWithBudget(JetCache jetCache, Set<Object> keys, CachedAnnoConfig cac)
+            throws InterruptedException {
+        MultiGetResult<Object, Object> result = jetCache.GET_ALL(keys);
+        try {
+            result.future().toCompletableFuture().get(cac.getLatencyBudget(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.debug("cache get all exceeds latency budget {}ms, fall back to origin. keys={}",
+                    cac.getLatencyBudget(), keys.size());
+            return null;
+        } catch (ExecutionException e) {
+            logger.warn("cache get all error, fall back to origin.", e.getCause());
+            return null;
+        }
+        return result.unwrapValues();
+    }
+
+    /**
+     * 单个元素的缓存键，与以该元素为参数的单个查询使用的默认键相同
+     */
+    private static Object batchElementKey(Object[] args, int index, Object element) {
+        Object[] key = args.clone();
+        key[index] = element;
+        return key;
+    }
+
+    /**
+     * 将未命中的元素转换为与原参数相同形式的集合或数组
+     */
+    private static Object toBatchArg(List<Object> missing, Class<?> paramType, Object origin)
+            throws ReflectiveOperationException {
+        if (origin.getClass().isArray()) {
+            Object array = Array.newInstance(origin.getClass().getComponentType(), missing.size());
+            for (int i = 0; i < missing.size(); i++) {
+                Array.set(array, i, missing.get(i));
+            }
+            return array;
+        }
+        if (paramType.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>(missing);
+        }
+        if (paramType.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>(missing);
+        }
+        @SuppressWarnings("unchecked")
+        Collection<Object> c = (Collection<Object>) origin.getClass().getDeclaredConstructor().newInstance();
+        c.addAll(missing);
+        return c;
+    }
+
+    /**
+     * 将原方法的结果转换为参数元素到结果元素的映射
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> batchResultToMap(Object result, CachedAnnoConfig cac) {
+        if (result == null) {
+            return Collections.emptyMap();
+        }
+        if (result instanceof Map) {
+            return (Map<Object, Object>) result;
+        }
+        Map<Object, Object> map = new HashMap<>();
+        for (Object element : (Iterable<Object>) result) {
+            if (element == null) {
+                continue;
+            }
+            Object key = ExpressionUtil.evalBatchResultKey(element, cac);
+            if (key != ExpressionUtil.EVAL_FAILED) {
+                map.put(key, element);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 按参数顺序组装结果，忽略没有值的元素
+     */
+    private static Object assembleBatchResult(Set<Object> elements, Map<Object, Object> values,
+                                              Class<?> returnType) {
+        if (Map.class.isAssignableFrom(returnType)) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Object element : elements) {
+                Object v = values.get(element);
+                if (v != null) {
+                    map.put(element, v);
+                }
+            }
+            return map;
+        }
+        Collection<Object> c = returnType == Set.class ? new LinkedHashSet<>() : new ArrayList<>();
+        for (Object element : elements) {
+            Object v = values.get(element);
+            if (v != null) {
+                c.add(v);
+            }
+        }
+        return c;
+    }
+
     /**
      * 执行带有失效或更新操作的调用
      * 该方法首先执行原始方法调用，然后根据配置进行缓存失效或更新操作
@@ -179,13 +617,16 @@ public class CacheHandler implements InvocationHandler {
         context.setResult(originResult);
         CacheInvokeConfig cic = context.getCacheInvokeConfig();
 
+        // 异步执行的失效与更新先收集，按缓存合并后统一提交
+        AsyncCacheWriter writer = new AsyncCacheWriter();
         if (cic.getInvalidateAnnoConfigs() != null) {
-            doInvalidate(context, cic.getInvalidateAnnoConfigs());
+            doInvalidate(context, cic.getInvalidateAnnoConfigs(), writer);
         }
         CacheUpdateAnnoConfig updateAnnoConfig = cic.getUpdateAnnoConfig();
         if (updateAnnoConfig != null) {
-            doUpdate(context, updateAnnoConfig);
+            doUpdate(context, updateAnnoConfig, writer);
         }
+        writer.submit();
 
         return originResult;
     }
@@ -220,28 +661,79 @@ public class CacheHandler implements InvocationHandler {
             v = invokeOrigin(context);
             success = true;
         } finally {
-            t = System.currentTimeMillis() - t;
-            CacheLoadEvent event = new CacheLoadEvent(jetCache, t, key, v, success);
-            while (jetCache instanceof ProxyJetCache) {
-                jetCache = ((ProxyJetCache) jetCache).getTargetCache();
-            }
-            if (jetCache instanceof AbstractJetCache) {
-                ((AbstractJetCache) jetCache).notify(event);
+            long millis = System.currentTimeMillis() - t;
+            notifyLoad(jetCache, millis, key, v, success);
+            MethodStatRecorder recorder = context.getStatRecorder();
+            if (recorder != null) {
+                recorder.recordLoad(millis, success);
             }
         }
         return v;
     }
 
+    /**
+     * 获取方法的统计记录器并放入调用上下文，未开启统计时返回 null
+     *
+     * @param context 调用上下文
+     * @param cac     缓存注解配置
+     * @return 统计记录器
+     */
+    private static MethodStatRecorder statRecorder(CacheInvokeContext context, CachedAnnoConfig cac) {
+        if (!MethodStatRecorder.isEnabled()) {
+            return null;
+        }
+        MethodStatRecorder recorder = cac.getStatRecorder();
+        if (recorder == null) {
+            Method m = cac.getDefineMethod();
+            StringBuilder sb = new StringBuilder(ClassUtil.getShortClassName(m.getDeclaringClass().getName()))
+                    .append('.').append(m.getName()).append('(');
+            Class<?>[] types = m.getParameterTypes();
+            for (int i = 0; i < types.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(types[i].getSimpleName());
+            }
+            sb.append(')');
+            String cacheName = DefaultCacheConstant.isUndefined(cac.getName()) ? null : cac.getName();
+            recorder = MethodStatRecorder.of(m, sb.toString(), cacheName);
+            cac.setStatRecorder(recorder);
+        }
+        context.setStatRecorder(recorder);
+        return recorder;
+    }
+
+    /**
+     * 触发缓存加载事件
+     *
+     * @param jetCache 缓存实例
+     * @param millis   加载耗时
+     * @param key      缓存键
+     * @param value    加载的值
+     * @param success  是否加载成功
+     */
+    private static void notifyLoad(JetCache jetCache, long millis, Object key, Object value, boolean success) {
+        CacheLoadEvent event = new CacheLoadEvent(jetCache, millis, key, value, success);
+        while (jetCache instanceof ProxyJetCache) {
+            jetCache = ((ProxyJetCache) jetCache).getTargetCache();
+        }
+        if (jetCache instanceof AbstractJetCache) {
+            ((AbstractJetCache) jetCache).notify(event);
+        }
+    }
+
     /**
      * 执行缓存失效操作
      * 遍历缓存失效配置列表，逐个执行缓存失效操作
      *
      * @param context    缓存调用上下文
      * @param annoConfig 缓存失效注解配置列表
+     * @param writer     异步写入的收集器
      */
-    private static void doInvalidate(CacheInvokeContext context, List<CacheInvalidateAnnoConfig> annoConfig) {
+    private static void doInvalidate(CacheInvokeContext context, List<CacheInvalidateAnnoConfig> annoConfig,
+                                     AsyncCacheWriter writer) {
         for (CacheInvalidateAnnoConfig config : annoConfig) {
-            doInvalidate(context, config);
+            doInvalidate(context, config, writer);
         }
     }
 
@@ -250,80 +742,89 @@ public class CacheHandler implements InvocationHandler {
      *
      * @param context          缓存调用上下文，用于获取缓存函数和评估条件、值、键等。
      * @param updateAnnoConfig 更新配置，包含缓存更新的详细配置信息，如键、值、条件等。
+     * @param writer           异步写入的收集器
      */
-    private static void doUpdate(CacheInvokeContext context, CacheUpdateAnnoConfig updateAnnoConfig) {
+    private static void doUpdate(CacheInvokeContext context, CacheUpdateAnnoConfig updateAnnoConfig,
+                                 AsyncCacheWriter writer) {
         // 根据上下文和更新配置获取缓存实例
-        try (JetCache jetCache = context.getCacheFunction().apply(context, updateAnnoConfig)) {
-            // 如果缓存为null，则直接返回
-            if (jetCache == null) {
+        JetCache jetCache = context.getCacheFunction().apply(context, updateAnnoConfig);
+        // 如果缓存为null，则直接返回
+        if (jetCache == null) {
+            return;
+        }
+        // 评估更新缓存的条件
+        boolean condition = ExpressionUtil.evalCondition(context, updateAnnoConfig);
+        // 如果条件不满足，则直接返回
+        if (!condition) {
+            return;
+        }
+
+        // 评估缓存更新的值
+        Object value = ExpressionUtil.evalValue(context, updateAnnoConfig);
+        // 评估缓存更新的键
+        Object key = ExpressionUtil.evalKey(context, updateAnnoConfig);
+        // 如果键为null或值评估失败，则直接返回
+        if (key == null || value == ExpressionUtil.EVAL_FAILED) {
+            return;
+        }
+        invalidateMemo(jetCache);
+        // 如果是批量更新
+        if (updateAnnoConfig.isMulti()) {
+            // 如果值为null，则直接返回
+            if (value == null) {
                 return;
             }
-            // 评估更新缓存的条件
-            boolean condition = ExpressionUtil.evalCondition(context, updateAnnoConfig);
-            // 如果条件不满足，则直接返回
-            if (!condition) {
+            // 将键和值转换为可迭代对象
+            Iterable<Object> keyIt = toIterable(key);
+            Iterable<Object> valueIt = toIterable(value);
+            // 如果键不是Iterable或数组类型，则记录错误并返回
+            if (keyIt == null) {
+                logger.error(
+                        "JetCache @CacheUpdate key is not instance of Iterable or array: {}",
+                        updateAnnoConfig.getDefineMethod()
+                );
                 return;
             }
-
-            // 评估缓存更新的值
-            Object value = ExpressionUtil.evalValue(context, updateAnnoConfig);
-            // 评估缓存更新的键
-            Object key = ExpressionUtil.evalKey(context, updateAnnoConfig);
-            // 如果键为null或值评估失败，则直接返回
-            if (key == null || value == ExpressionUtil.EVAL_FAILED) {
+            // 如果值不是Iterable或数组类型，则记录错误并返回
+            if (valueIt == null) {
+                logger.error(
+                        "JetCache @CacheUpdate value is not instance of Iterable or array: {}",
+                        updateAnnoConfig.getDefineMethod()
+                );
                 return;
             }
-            // 如果是批量更新
-            if (updateAnnoConfig.isMulti()) {
-                // 如果值为null，则直接返回
-                if (value == null) {
-                    return;
-                }
-                // 将键和值转换为可迭代对象
-                Iterable<Object> keyIt = toIterable(key);
-                Iterable<Object> valueIt = toIterable(value);
-                // 如果键不是Iterable或数组类型，则记录错误并返回
-                if (keyIt == null) {
-                    logger.error(
-                            "JetCache @CacheUpdate key is not instance of Iterable or array: {}",
-                            updateAnnoConfig.getDefineMethod()
-                    );
-                    return;
-                }
-                // 如果值不是Iterable或数组类型，则记录错误并返回
-                if (valueIt == null) {
-                    logger.error(
-                            "JetCache @CacheUpdate value is not instance of Iterable or array: {}",
-                            updateAnnoConfig.getDefineMethod()
-                    );
-                    return;
-                }
 
-                // 将键和值的可迭代对象转换为列表
-                List<Object> keyList = new ArrayList<>();
-                List<Object> valueList = new ArrayList<>();
-                keyIt.forEach(keyList::add);
-                valueIt.forEach(valueList::add);
-                // 如果键和值的列表长度不一致，则记录错误并返回
-                if (keyList.size() != valueList.size()) {
-                    logger.error(
-                            "JetCache @CacheUpdate key size not equals with value size: {}",
-                            updateAnnoConfig.getDefineMethod()
-                    );
+            // 将键和值的可迭代对象转换为列表
+            List<Object> keyList = new ArrayList<>();
+            List<Object> valueList = new ArrayList<>();
+            keyIt.forEach(keyList::add);
+            valueIt.forEach(valueList::add);
+            // 如果键和值的列表长度不一致，则记录错误并返回
+            if (keyList.size() != valueList.size()) {
+                logger.error(
+                        "JetCache @CacheUpdate key size not equals with value size: {}",
+                        updateAnnoConfig.getDefineMethod()
+                );
+            } else {
+                // 创建一个映射来存储键值对关系
+                Map<Object, Object> m = new HashMap<>();
+                // 遍历键值列表，将键值对添加到映射中
+                for (int i = 0; i < valueList.size(); i++) {
+                    m.put(keyList.get(i), valueList.get(i));
+                }
+                // 将所有键值对批量更新到缓存中
+                if (updateAnnoConfig.getWriteMode() != CacheWriteMode.SYNC) {
+                    writer.put(jetCache, updateAnnoConfig.getWriteMode(), m, markMemoPending(jetCache, m.keySet()));
                 } else {
-                    // 创建一个映射来存储键值对关系
-                    Map<Object, Object> m = new HashMap<>();
-                    // 遍历键值列表，将键值对添加到映射中
-                    for (int i = 0; i < valueList.size(); i++) {
-                        m.put(keyList.get(i), valueList.get(i));
-                    }
-                    // 将所有键值对批量更新到缓存中
                     jetCache.putAll(m);
                 }
-            } else {
-                // 对于非批量更新，直接将键值对更新到缓存中
-                jetCache.put(key, value);
             }
+        } else if (updateAnnoConfig.getWriteMode() != CacheWriteMode.SYNC) {
+            writer.put(jetCache, updateAnnoConfig.getWriteMode(), Collections.singletonMap(key, value),
+                    markMemoPending(jetCache, Collections.singleton(key)));
+        } else {
+            // 对于非批量更新，直接将键值对更新到缓存中
+            jetCache.put(key, value);
         }
     }
 
@@ -332,36 +833,69 @@ public class CacheHandler implements InvocationHandler {
      *
      * @param context    缓存调用上下文
      * @param annoConfig 无效配置
+     * @param writer     异步写入的收集器
      */
-    private static void doInvalidate(CacheInvokeContext context, CacheInvalidateAnnoConfig annoConfig) {
-        try (JetCache jetCache = context.getCacheFunction().apply(context, annoConfig)) {
-            if (jetCache == null) {
-                return;
-            }
-            boolean condition = ExpressionUtil.evalCondition(context, annoConfig);
-            if (!condition) {
-                return;
-            }
-            Object key = ExpressionUtil.evalKey(context, annoConfig);
-            if (key == null) {
+    private static void doInvalidate(CacheInvokeContext context, CacheInvalidateAnnoConfig annoConfig,
+                                     AsyncCacheWriter writer) {
+        JetCache jetCache = context.getCacheFunction().apply(context, annoConfig);
+        if (jetCache == null) {
+            return;
+        }
+        boolean condition = ExpressionUtil.evalCondition(context, annoConfig);
+        if (!condition) {
+            return;
+        }
+        Object key = ExpressionUtil.evalKey(context, annoConfig);
+        if (key == null) {
+            return;
+        }
+        invalidateMemo(jetCache);
+        if (annoConfig.isMulti()) {
+            Iterable it = toIterable(key);
+            if (it == null) {
+                logger.error("JetCache @CacheInvalidate key is not instance of Iterable or array: {}",
+                        annoConfig.getDefineMethod());
                 return;
             }
-            if (annoConfig.isMulti()) {
-                Iterable it = toIterable(key);
-                if (it == null) {
-                    logger.error("JetCache @CacheInvalidate key is not instance of Iterable or array: {}",
-                            annoConfig.getDefineMethod());
-                    return;
-                }
-                Set keys = new HashSet<>();
-                it.forEach(keys::add);
-                jetCache.removeAll(keys);
+            Set keys = new HashSet<>();
+            it.forEach(keys::add);
+            if (annoConfig.getWriteMode() != CacheWriteMode.SYNC) {
+                writer.remove(jetCache, annoConfig.getWriteMode(), keys, markMemoPending(jetCache, keys));
             } else {
-                jetCache.remove(key);
+                jetCache.removeAll(keys);
             }
+        } else if (annoConfig.getWriteMode() != CacheWriteMode.SYNC) {
+            writer.remove(jetCache, annoConfig.getWriteMode(), Collections.singleton(key),
+                    markMemoPending(jetCache, Collections.singleton(key)));
+        } else {
+            jetCache.remove(key);
+        }
+    }
+
+    /**
+     * 清除当前请求作用域中指定缓存的备忘条目，使作用域内后续的读取能看到本次更新或失效
+     *
+     * @param jetCache 缓存实例
+     */
+    private static void invalidateMemo(JetCache jetCache) {
+        ScopedMemo memo = CacheContextSupport._currentMemo();
+        if (memo != null) {
+            memo.invalidate(jetCache);
         }
     }
 
+    /**
+     * 异步写入时标记当前请求作用域中受影响的键，写入完成前作用域内的读取不会备忘这些键的旧值
+     *
+     * @param jetCache 缓存实例
+     * @param keys     写入的键
+     * @return 写入完成后调用的回调，不在请求作用域内时返回 null
+     */
+    private static Runnable markMemoPending(JetCache jetCache, Collection<?> keys) {
+        ScopedMemo memo = CacheContextSupport._currentMemo();
+        return memo == null ? null : memo.markPending(jetCache, keys);
+    }
+
     /**
      * 将对象转换为Iterable类型
      * 支持将数组或Iterable类型对象转换为Iterable，否则返回null
@@ -420,6 +954,25 @@ public class CacheHandler implements InvocationHandler {
         static boolean _isEnabled() {
             return isEnabled();
         }
+
+        /**
+         * 获取当前请求作用域的备忘表。
+         *
+         * @return 备忘表，不在作用域内时返回 null
+         */
+        static ScopedMemo _currentMemo() {
+            return currentMemo();
+        }
+
+        /**
+         * 将当前线程的缓存启用状态与请求作用域传递给任务。
+         *
+         * @param action 回调
+         * @return 在执行线程上恢复当前状态的回调
+         */
+        static <T, U> BiConsumer<T, U> _propagateContext(BiConsumer<T, U> action) {
+            return propagateContext(action);
+        }
     }
 
 }
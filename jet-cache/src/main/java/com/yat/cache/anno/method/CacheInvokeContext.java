@@ -2,6 +2,7 @@ package com.yat.cache.anno.method;
 
 import com.yat.cache.anno.support.CacheAnnoConfig;
 import com.yat.cache.core.JetCache;
+import com.yat.cache.core.support.MethodStatRecorder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -58,5 +59,9 @@ public class CacheInvokeContext {
      * 隐藏的包名数组，这些包中的类不会被缓存机制监控
      */
     private String[] hiddenPackages;
+    /**
+     * 当前方法的统计记录器，未开启统计时为 null
+     */
+    private MethodStatRecorder statRecorder;
 
 }
@@ -2,14 +2,15 @@ package com.yat.cache.anno.method;
 
 import com.yat.cache.core.exception.CacheConfigException;
 import org.mvel2.MVEL;
-import org.springframework.core.DefaultParameterNameDiscoverer;
-import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -32,6 +33,14 @@ public class ExpressionEvaluator implements Function<Object, Object> {
      * 定义一个正则表达式模式，用于解析表达式字符串。
      */
     private static final Pattern pattern = Pattern.compile("\\s*(\\w+)\\s*\\{(.+)\\}\\s*");
+    /**
+     * 直接按下标读取参数的表达式，如 {@code args[0]}
+     */
+    private static final Pattern ARGS_INDEX_PATTERN = Pattern.compile("\\s*args\\s*\\[\\s*(\\d+)\\s*]\\s*");
+    /**
+     * 直接读取变量的 SpEL 表达式，如 {@code #id}
+     */
+    private static final Pattern SPEL_VARIABLE_PATTERN = Pattern.compile("\\s*#(\\w+)\\s*");
     /**
      * 目标函数，用于实际执行表达式解析和计算。
      */
@@ -47,6 +56,10 @@ public class ExpressionEvaluator implements Function<Object, Object> {
         Object[] rt = parseEL(script);
         EL el = (EL) rt[0];
         String realScript = (String) rt[1];
+        target = simpleEvaluator(el, realScript, defineMethod);
+        if (target != null) {
+            return;
+        }
         if (el == EL.MVEL) {
             target = new MvelEvaluator(realScript);
         } else if (el == EL.SPRING_EL) {
@@ -54,6 +67,56 @@ public class ExpressionEvaluator implements Function<Object, Object> {
         }
     }
 
+    /**
+     * 识别只读取单个参数或返回值的表达式，直接访问参数数组，不经过表达式引擎。
+     *
+     * @param el           表达式语言
+     * @param script       表达式
+     * @param defineMethod 定义方法
+     * @return 快速求值函数，不是简单表达式时返回 null
+     */
+    private static Function<Object, Object> simpleEvaluator(EL el, String script, Method defineMethod) {
+        if (defineMethod == null) {
+            // 没有定义方法时根对象不是调用上下文
+            return null;
+        }
+        int parameterCount = defineMethod.getParameterCount();
+        Matcher matcher = ARGS_INDEX_PATTERN.matcher(script);
+        if (matcher.matches()) {
+            int index = Integer.parseInt(matcher.group(1));
+            if (index < parameterCount) {
+                return o -> ((CacheInvokeContext) o).getArgs()[index];
+            }
+            return null;
+        }
+        if (el != EL.SPRING_EL) {
+            return null;
+        }
+        matcher = SPEL_VARIABLE_PATTERN.matcher(script);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String name = matcher.group(1);
+        // #root 与 #this 是 SpEL 的保留变量，指向求值上下文而不是同名参数，交给完整求值
+        if ("root".equals(name) || "this".equals(name)) {
+            return null;
+        }
+        // 与完整求值一致，result 优先于同名参数
+        if ("result".equals(name)) {
+            return o -> ((CacheInvokeContext) o).getResult();
+        }
+        String[] parameterNames = SpelEvaluator.parameterNames(defineMethod);
+        if (parameterNames != null) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (name.equals(parameterNames[i])) {
+                    int index = i;
+                    return o -> ((CacheInvokeContext) o).getArgs()[index];
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * 解析表达式语言并返回解析结果。
      *
@@ -111,13 +174,13 @@ public class ExpressionEvaluator implements Function<Object, Object> {
 
 /**
  * MvelEvaluator类实现了Function接口，用于在给定上下文环境中评估MVEL脚本
- * 它提供了一种方式来动态执行MVEL脚本，并根据输入的上下文返回评估结果
+ * 脚本在创建时编译一次，之后每次调用直接执行编译结果，不再重新解析
  */
 class MvelEvaluator implements Function<Object, Object> {
     /**
-     * 存储待评估的MVEL脚本
+     * 编译后的MVEL脚本
      */
-    private final String script;
+    private final Serializable compiledScript;
 
     /**
      * 用于初始化MvelEvaluator对象
@@ -125,7 +188,7 @@ class MvelEvaluator implements Function<Object, Object> {
      * @param script 要评估的MVEL脚本，它定义了在特定上下文中执行的逻辑
      */
     public MvelEvaluator(String script) {
-        this.script = script;
+        this.compiledScript = MVEL.compileExpression(script);
     }
 
     /**
@@ -136,14 +199,15 @@ class MvelEvaluator implements Function<Object, Object> {
      */
     @Override
     public Object apply(Object context) {
-        // 使用MVEL.eval方法执行脚本并返回结果
-        return MVEL.eval(script, context);
+        return MVEL.executeExpression(compiledScript, context);
     }
 }
 
 /**
  * SpelEvaluator类实现了Function接口，用于解析和执行Spring Expression Language(SpEL)表达式。
  * 该类主要用于在给定的根对象和方法定义上下文中评估SpEL表达式。
+ * 解析器开启 {@link SpelCompilerMode#MIXED}，表达式执行若干次后编译为字节码，编译失败时退回解释执行；
+ * 参数变量在表达式读取时才从参数数组中按下标查找，不再每次调用都逐个绑定。
  */
 class SpelEvaluator implements Function<Object, Object> {
 
@@ -152,17 +216,12 @@ class SpelEvaluator implements Function<Object, Object> {
      */
     private static final ExpressionParser parser;
 
-    /**
-     * 参数名发现器，用于获取方法参数名。
-     */
-    private static final ParameterNameDiscoverer parameterNameDiscoverer;
-
     /*
-     * 静态初始化块，初始化表达式解析器和参数名发现器。
+     * 静态初始化块，初始化表达式解析器。
      */
     static {
-        parser = new SpelExpressionParser();
-        parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+        parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED,
+                SpelEvaluator.class.getClassLoader()));
     }
 
     /**
@@ -173,7 +232,7 @@ class SpelEvaluator implements Function<Object, Object> {
     /**
      * 参数名数组，保存方法的参数名。
      */
-    private String[] parameterNames;
+    private final String[] parameterNames;
 
     /**
      * 构造函数，用于初始化SpEL表达式解析器和参数名数组。
@@ -183,9 +242,20 @@ class SpelEvaluator implements Function<Object, Object> {
      */
     public SpelEvaluator(String script, Method defineMethod) {
         expression = parser.parseExpression(script);
-        if (defineMethod.getParameterCount() > 0) {
-            parameterNames = parameterNameDiscoverer.getParameterNames(defineMethod);
+        parameterNames = parameterNames(defineMethod);
+    }
+
+    /**
+     * 获取方法的参数名，优先使用 AOT 构建时生成的参数名索引。
+     *
+     * @param defineMethod 方法
+     * @return 参数名数组，没有参数或无法获取时返回 null
+     */
+    static String[] parameterNames(Method defineMethod) {
+        if (defineMethod == null || defineMethod.getParameterCount() == 0) {
+            return null;
         }
+        return ParameterNames.get(defineMethod);
     }
 
     /**
@@ -196,19 +266,46 @@ class SpelEvaluator implements Function<Object, Object> {
      */
     @Override
     public Object apply(Object rootObject) {
-        // 创建评估上下文，设置根对象
-        EvaluationContext context = new StandardEvaluationContext(rootObject);
-        // 将根对象转换为缓存调用上下文
-        CacheInvokeContext cic = (CacheInvokeContext) rootObject;
-        if (parameterNames != null) {
-            for (int i = 0; i < parameterNames.length; i++) {
-                context.setVariable(parameterNames[i], cic.getArgs()[i]);
-            }
+        if (!(rootObject instanceof CacheInvokeContext)) {
+            // 以普通对象为根对象求值，如批量模式的结果元素
+            return expression.getValue(rootObject);
         }
-        // 将结果变量设置为缓存调用上下文的结果
-        context.setVariable("result", cic.getResult());
-
+        EvaluationContext context = new InvokeEvaluationContext((CacheInvokeContext) rootObject, parameterNames);
         // 使用评估上下文执行SpEL表达式并返回结果
         return expression.getValue(context);
     }
+
+    /**
+     * 按需解析 {@code result} 与参数变量的评估上下文，显式设置的变量优先
+     */
+    private static final class InvokeEvaluationContext extends StandardEvaluationContext {
+
+        private final CacheInvokeContext cic;
+        private final String[] parameterNames;
+
+        private InvokeEvaluationContext(CacheInvokeContext cic, String[] parameterNames) {
+            super(cic);
+            this.cic = cic;
+            this.parameterNames = parameterNames;
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            Object value = super.lookupVariable(name);
+            if (value != null) {
+                return value;
+            }
+            if ("result".equals(name)) {
+                return cic.getResult();
+            }
+            if (parameterNames != null) {
+                for (int i = 0; i < parameterNames.length; i++) {
+                    if (name.equals(parameterNames[i])) {
+                        return cic.getArgs()[i];
+                    }
+                }
+            }
+            return null;
+        }
+    }
 }
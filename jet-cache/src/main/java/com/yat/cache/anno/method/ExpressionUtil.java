@@ -2,6 +2,7 @@ package com.yat.cache.anno.method;
 
 import com.yat.cache.anno.api.DefaultCacheConstant;
 import com.yat.cache.anno.support.CacheAnnoConfig;
+import com.yat.cache.anno.support.CacheInvalidateAnnoConfig;
 import com.yat.cache.anno.support.CacheUpdateAnnoConfig;
 import com.yat.cache.anno.support.CachedAnnoConfig;
 import org.slf4j.Logger;
@@ -87,6 +88,36 @@ class ExpressionUtil {
         }
     }
 
+    /**
+     * 根据方法结果评估本次写入缓存的过期时间。
+     *
+     * @param context 缓存调用上下文，result 已设置
+     * @param cac     缓存注解配置对象
+     * @return 过期时间（毫秒）；未定义表达式、结果不是正数或评估失败时返回0，使用缓存的默认过期时间
+     */
+    public static long evalExpire(CacheInvokeContext context, CachedAnnoConfig cac) {
+        String script = cac.getExpireExpression();
+        if (DefaultCacheConstant.isUndefined(script)) {
+            return 0;
+        }
+        try {
+            if (cac.getExpireExpressionEvaluator() == null) {
+                cac.setExpireExpressionEvaluator(new ExpressionEvaluator(script, cac.getDefineMethod()));
+            }
+            Object v = cac.getExpireExpressionEvaluator().apply(context);
+            if (v instanceof Number n && n.longValue() > 0) {
+                return cac.getTimeUnit().toMillis(n.longValue());
+            }
+            return 0;
+        } catch (Exception e) {
+            logger.error(
+                    "error occurs when eval expireExpression '{}' in {}:{}",
+                    script, context.getMethod(), e.getMessage(), e
+            );
+            return 0;
+        }
+    }
+
     /**
      * 评估并生成缓存键。
      *
@@ -98,7 +129,12 @@ class ExpressionUtil {
         String keyScript = cac.getKey();
         try {
             if (cac.getKeyEvaluator() == null) {
-                if (DefaultCacheConstant.isUndefined(keyScript)) {
+                ArgsKeyGenerator generator;
+                if (DefaultCacheConstant.isUndefined(keyScript) && !isMulti(cac)
+                        && (generator = ArgsKeyGenerator.create(cac.getDefineMethod(), cac.getJetCache())) != null) {
+                    // 参数均为简单类型时直接拼出与键转换器输出相同的键
+                    cac.setKeyEvaluator(generator);
+                } else if (DefaultCacheConstant.isUndefined(keyScript)) {
                     // 如果未定义键脚本，则默认键评估器将使用方法的参数作为键
                     cac.setKeyEvaluator(o -> {
                         CacheInvokeContext c = (CacheInvokeContext) o;
@@ -120,6 +156,37 @@ class ExpressionUtil {
         }
     }
 
+    /**
+     * 批量模式下从结果元素中取出对应的参数元素。
+     *
+     * @param element 结果元素
+     * @param cac     缓存注解配置
+     * @return 参数元素；评估失败时返回EVAL_FAILED对象
+     */
+    public static Object evalBatchResultKey(Object element, CachedAnnoConfig cac) {
+        String script = cac.getBatchResultKey();
+        try {
+            if (cac.getBatchResultKeyEvaluator() == null) {
+                cac.setBatchResultKeyEvaluator(new ExpressionEvaluator(script, null));
+            }
+            return cac.getBatchResultKeyEvaluator().apply(element);
+        } catch (Exception e) {
+            logger.error(
+                    "error occurs when eval batchResultKey \"{}\" in {}:{}",
+                    script, cac.getDefineMethod(), e.getMessage(), e
+            );
+            return EVAL_FAILED;
+        }
+    }
+
+    /**
+     * 批量失效或批量更新时键需要逐个遍历，不能替换参数数组
+     */
+    private static boolean isMulti(CacheAnnoConfig cac) {
+        return (cac instanceof CacheInvalidateAnnoConfig ic && ic.isMulti())
+                || (cac instanceof CacheUpdateAnnoConfig uc && uc.isMulti());
+    }
+
     /**
      * 评估并生成缓存更新的值。
      *
@@ -0,0 +1,99 @@
+package com.yat.cache.anno.method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.asm.Type;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Properties;
+
+/**
+ * ClassName ParameterNames
+ * <p>Description 缓存注解方法的参数名查找</p>
+ * <p>
+ * 优先读取 AOT 构建时为每个声明类生成的参数名索引（{@link #INDEX_LOCATION}），
+ * 索引不存在或没有该方法时才通过 {@link DefaultParameterNameDiscoverer} 反射/读取字节码获取。
+ * 索引按类只加载一次。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/21 15:10
+ * version 1.0
+ */
+public final class ParameterNames {
+
+    /**
+     * 参数名索引的资源目录，每个声明类一个文件：目录 + 类全名 + ".properties"，
+     * 键为 {@link #indexKey(Method)}，值为逗号分隔的参数名
+     */
+    public static final String INDEX_LOCATION = "META-INF/jetcache/param-names/";
+
+    private static final Logger logger = LoggerFactory.getLogger(ParameterNames.class);
+
+    private static final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private static final Properties EMPTY = new Properties();
+
+    private static final ClassValue<Properties> indexes = new ClassValue<>() {
+        @Override
+        protected Properties computeValue(@NonNull Class<?> type) {
+            ClassLoader cl = type.getClassLoader();
+            if (cl == null) {
+                return EMPTY;
+            }
+            try (InputStream in = cl.getResourceAsStream(indexLocation(type))) {
+                if (in == null) {
+                    return EMPTY;
+                }
+                Properties p = new Properties();
+                p.load(in);
+                return p;
+            } catch (IOException e) {
+                logger.warn("load parameter name index of {} failed", type.getName(), e);
+                return EMPTY;
+            }
+        }
+    };
+
+    private ParameterNames() {
+    }
+
+    /**
+     * 获取方法的参数名。
+     *
+     * @param method 方法
+     * @return 参数名数组，无法获取时返回 null
+     */
+    public static String[] get(Method method) {
+        String names = indexes.get(method.getDeclaringClass()).getProperty(indexKey(method));
+        if (names != null) {
+            return names.isEmpty() ? new String[0] : names.split(",");
+        }
+        return parameterNameDiscoverer.getParameterNames(method);
+    }
+
+    /**
+     * 获取声明类的参数名索引资源路径。
+     *
+     * @param type 声明类
+     * @return 资源路径
+     */
+    public static String indexLocation(Class<?> type) {
+        return INDEX_LOCATION + type.getName() + ".properties";
+    }
+
+    /**
+     * 获取方法在索引中的键，由方法名与方法描述符组成，能区分重载方法。
+     *
+     * @param method 方法
+     * @return 索引键
+     */
+    public static String indexKey(Method method) {
+        return method.getName() + Type.getMethodDescriptor(method);
+    }
+}
@@ -6,12 +6,20 @@ import com.yat.cache.anno.method.CacheInvokeContext;
 import com.yat.cache.core.JetCache;
 import com.yat.cache.core.JetCacheManager;
 import com.yat.cache.core.exception.CacheConfigException;
+import com.yat.cache.core.support.JetCacheExecutor;
 import com.yat.cache.core.template.QuickConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -207,6 +215,43 @@ public class CacheContext {
     }
 
 
+    /**
+     * 预先创建已指定名称的方法缓存，创建后设置到缓存注解配置中，首次调用时不再创建。
+     * 各缓存在IO线程池中并行创建，最多等待指定时间，未完成或失败的缓存在首次调用时再创建。
+     *
+     * @param configs 缓存注解配置
+     * @param timeout 最长等待时间
+     */
+    public void initCaches(Collection<CachedAnnoConfig> configs, Duration timeout) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(configs.size());
+        for (CachedAnnoConfig cac : configs) {
+            if (cac.getJetCache() != null || DefaultCacheConstant.isUndefined(cac.getName())) {
+                continue;
+            }
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    cac.setJetCache(__createOrGetCache(cac, cac.getArea(), cac.getName()));
+                } catch (Exception e) {
+                    logger.warn("init cache {} failed, it will be created on first use", cac.getName(), e);
+                }
+            }, JetCacheExecutor.heavyIOExecutor()));
+        }
+        if (futures.isEmpty()) {
+            return;
+        }
+        long t = System.currentTimeMillis();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            logger.info("{} method caches initialized in {}ms", futures.size(), System.currentTimeMillis() - t);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("init method caches not finished in {}ms, the rest will be created on first use",
+                    timeout.toMillis());
+        }
+    }
+
     /**
      * 在当前线程中启用缓存，适用于@Cached(enabled=false)场景。
      * 此方法通过在线程局部变量中增加启用计数来临时允许缓存操作。
@@ -231,6 +276,113 @@ public class CacheContext {
     }
 
 
+    /**
+     * 在请求作用域中执行代码，作用域内 @JetCached 方法的结果会记录在作用域私有的备忘表中，
+     * 同一缓存、同一键的重复调用直接返回备忘的值，不再访问缓存。
+     * 已在作用域内时复用外层的备忘表；作用域结束后备忘表随之丢弃。
+     *
+     * @param callback 在作用域内执行的代码
+     * @return callback 的返回值
+     */
+    public static <T> T withRequestScope(Supplier<T> callback) {
+        CacheThreadLocal var = cacheThreadLocal.get();
+        ScopedMemo outer = var.getMemo();
+        if (outer != null) {
+            return callback.get();
+        }
+        try {
+            var.setMemo(new ScopedMemo());
+            return callback.get();
+        } finally {
+            var.setMemo(null);
+        }
+    }
+
+    /**
+     * 将当前线程的请求作用域传递给在其他线程（如虚拟线程、结构化并发的子任务）中执行的任务。
+     * 当前不在作用域内时原样返回。
+     *
+     * @param task 任务
+     * @return 在执行线程上恢复当前作用域的任务
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        ScopedMemo memo = cacheThreadLocal.get().getMemo();
+        if (memo == null) {
+            return task;
+        }
+        return () -> {
+            CacheThreadLocal var = cacheThreadLocal.get();
+            ScopedMemo old = var.getMemo();
+            try {
+                var.setMemo(memo);
+                return task.get();
+            } finally {
+                var.setMemo(old);
+            }
+        };
+    }
+
+    /**
+     * 将当前线程的请求作用域传递给在其他线程中执行的任务。
+     *
+     * @param task 任务
+     * @return 在执行线程上恢复当前作用域的任务
+     * @see #propagate(Supplier)
+     */
+    public static Runnable propagate(Runnable task) {
+        if (cacheThreadLocal.get().getMemo() == null) {
+            return task;
+        }
+        Supplier<Object> s = propagate(() -> {
+            task.run();
+            return null;
+        });
+        return s::get;
+    }
+
+    /**
+     * 将当前线程的缓存启用状态与请求作用域一起传递给在其他线程中执行的任务，
+     * 用于异步方法在缓存查询完成后继续执行的逻辑。
+     *
+     * @param action 回调
+     * @param <T>    第一个参数类型
+     * @param <U>    第二个参数类型
+     * @return 在执行线程上恢复当前状态的回调
+     */
+    protected static <T, U> BiConsumer<T, U> propagateContext(BiConsumer<T, U> action) {
+        CacheThreadLocal current = cacheThreadLocal.get();
+        boolean enabled = current.getEnabledCount() > 0;
+        ScopedMemo memo = current.getMemo();
+        if (!enabled && memo == null) {
+            return action;
+        }
+        return (t, u) -> {
+            CacheThreadLocal var = cacheThreadLocal.get();
+            ScopedMemo old = var.getMemo();
+            if (enabled) {
+                enable();
+            }
+            try {
+                var.setMemo(memo);
+                action.accept(t, u);
+            } finally {
+                var.setMemo(old);
+                if (enabled) {
+                    disable();
+                }
+            }
+        };
+    }
+
+    /**
+     * 获取当前线程所在请求作用域的备忘表
+     *
+     * @return 备忘表，不在作用域内时返回 null
+     */
+    protected static ScopedMemo currentMemo() {
+        return cacheThreadLocal.get().getMemo();
+    }
+
     /**
      * 在当前线程中启用缓存
      * 此方法通过增加启用计数器，来跟踪当前线程中缓存的启用状态
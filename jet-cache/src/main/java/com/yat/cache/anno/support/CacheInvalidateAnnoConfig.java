@@ -1,5 +1,6 @@
 package com.yat.cache.anno.support;
 
+import com.yat.cache.anno.api.CacheWriteMode;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -20,5 +21,9 @@ public class CacheInvalidateAnnoConfig extends CacheAnnoConfig {
      * 提高缓存管理的效率。默认情况下为 false，即不支持多键操作。
      */
     private boolean multi;
+    /**
+     * 失效操作的执行方式
+     */
+    private CacheWriteMode writeMode = CacheWriteMode.SYNC;
 
 }
@@ -18,6 +18,10 @@ class CacheThreadLocal {
      * 存储当前线程中某个操作的启用计数
      */
     private int enabledCount = 0;
+    /**
+     * 当前线程所在请求作用域的备忘表，不在作用域内时为 null
+     */
+    private ScopedMemo memo;
 
     /**
      * 获取当前线程中某个操作的启用计数
@@ -1,5 +1,6 @@
 package com.yat.cache.anno.support;
 
+import com.yat.cache.anno.api.CacheWriteMode;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -30,5 +31,9 @@ public class CacheUpdateAnnoConfig extends CacheAnnoConfig {
      * 在某些情况下，缓存键可能需要根据运行时数据动态计算
      */
     private Function<Object, Object> valueEvaluator;
+    /**
+     * 更新操作的执行方式
+     */
+    private CacheWriteMode writeMode = CacheWriteMode.SYNC;
 
 }
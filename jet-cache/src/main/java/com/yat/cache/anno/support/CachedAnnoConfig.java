@@ -2,6 +2,7 @@ package com.yat.cache.anno.support;
 
 import com.yat.cache.anno.api.CacheType;
 import com.yat.cache.core.RefreshPolicy;
+import com.yat.cache.core.support.MethodStatRecorder;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -55,9 +56,13 @@ public class CachedAnnoConfig extends CacheAnnoConfig {
      * 是否缓存空值，如果注解上没有定义，会使用全局配置，
      */
     private boolean cacheNullValue;
+    /**
+     * 缓存查询的延迟预算（毫秒），不大于0时不限制
+     */
+    private int latencyBudget;
     /**
      * 指定远程缓存的序列化方式。
-     * 可选值为 JAVA、KRYO、 KRYO5、GSON
+     * 可选值为 JAVA、KRYO、 KRYO5、GSON、JACKSON
      * 如果注解上没有定义，会使用全局配置，
      * 如果此时全局配置也没有定义，则为 JAVA
      */
@@ -80,6 +85,14 @@ public class CachedAnnoConfig extends CacheAnnoConfig {
      * Post condition评估器，用于评估postCondition表达式。
      */
     private Function<Object, Boolean> postConditionEvaluator;
+    /**
+     * 按方法结果计算单个条目过期时间的表达式，单位为 {@link #timeUnit}，评估在方法执行后进行。
+     */
+    private String expireExpression;
+    /**
+     * 过期时间表达式评估器，用于评估expireExpression表达式。
+     */
+    private Function<Object, Object> expireExpressionEvaluator;
     /**
      * 缓存刷新策略。
      */
@@ -88,6 +101,30 @@ public class CachedAnnoConfig extends CacheAnnoConfig {
      * 穿透保护配置。
      */
     private PenetrationProtectConfig penetrationProtectConfig;
+    /**
+     * 方法的统计记录器，首次在开启统计的情况下调用时创建
+     */
+    private MethodStatRecorder statRecorder;
+    /**
+     * 方法返回值是否为 {@link java.util.concurrent.CompletionStage}，为 true 时缓存异步结果的值而不是 future 本身。
+     */
+    private boolean asyncResult;
+    /**
+     * 是否为批量模式，集合参数中的每个元素单独缓存。
+     */
+    private boolean batch;
+    /**
+     * 批量模式下集合参数的下标。
+     */
+    private int batchParamIndex;
+    /**
+     * 批量模式下从结果元素中取出参数元素的表达式，返回值为 Map 时为空。
+     */
+    private String batchResultKey;
+    /**
+     * 批量模式下结果元素键的评估器。
+     */
+    private Function<Object, Object> batchResultKeyEvaluator;
 
 
 }
@@ -3,6 +3,7 @@ package com.yat.cache.anno.support;
 import com.yat.cache.anno.api.DefaultCacheConstant;
 import com.yat.cache.anno.method.CacheInvokeConfig;
 
+import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -59,4 +60,13 @@ public class ConfigMap {
     public CachedAnnoConfig getByCacheName(String area, String cacheName) {
         return cacheNameMap.get(area + "_" + cacheName);
     }
+
+    /**
+     * 获取所有指定了缓存名称的缓存配置
+     *
+     * @return 缓存配置集合，每个缓存名称一个
+     */
+    public Collection<CachedAnnoConfig> getNamedCachedConfigs() {
+        return cacheNameMap.values();
+    }
 }
@@ -3,8 +3,12 @@ package com.yat.cache.anno.support;
 import cn.hutool.core.lang.Assert;
 import com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum;
 import com.yat.cache.core.exception.CacheConfigException;
+import com.yat.cache.core.support.encoders.AbstractValueEncoder;
+import com.yat.cache.core.support.encoders.CompressValueEncoder;
 import com.yat.cache.core.support.encoders.GsonValueDecoder;
 import com.yat.cache.core.support.encoders.GsonValueEncoder;
+import com.yat.cache.core.support.encoders.JacksonValueDecoder;
+import com.yat.cache.core.support.encoders.JacksonValueEncoder;
 import com.yat.cache.core.support.encoders.JavaValueDecoder;
 import com.yat.cache.core.support.encoders.JavaValueEncoder;
 import com.yat.cache.core.support.encoders.Kryo5ValueDecoder;
@@ -36,17 +40,27 @@ public class DefaultEncoderParser implements EncoderParser {
         URI uri = URI.create(valueEncoder);
         valueEncoder = uri.getPath();
         boolean useIdentityNumber = isUseIdentityNumber(uri);
+        AbstractValueEncoder encoder;
         if (SerialPolicyTypeEnum.KRYO.name().equalsIgnoreCase(valueEncoder)) {
-            return new KryoValueEncoder(useIdentityNumber);
+            encoder = new KryoValueEncoder(useIdentityNumber);
         } else if (SerialPolicyTypeEnum.JAVA.name().equalsIgnoreCase(valueEncoder)) {
-            return new JavaValueEncoder(useIdentityNumber);
+            encoder = new JavaValueEncoder(useIdentityNumber);
         } else if (SerialPolicyTypeEnum.KRYO5.name().equalsIgnoreCase(valueEncoder)) {
-            return new Kryo5ValueEncoder(useIdentityNumber);
+            encoder = new Kryo5ValueEncoder(useIdentityNumber);
         } else if (SerialPolicyTypeEnum.GSON.name().equalsIgnoreCase(valueEncoder)) {
-            return new GsonValueEncoder(useIdentityNumber);
+            encoder = new GsonValueEncoder(useIdentityNumber);
+        } else if (SerialPolicyTypeEnum.JACKSON.name().equalsIgnoreCase(valueEncoder)) {
+            encoder = new JacksonValueEncoder(useIdentityNumber);
         } else {
             throw new CacheConfigException("not supported:" + valueEncoder);
         }
+        // 信封格式需要所有读取方都已升级，默认关闭，通过 kryo5?envelope=true 开启
+        encoder.setEnvelope(isEnvelope(uri));
+        Integer compressThreshold = parseCompressThreshold(uri);
+        if (compressThreshold != null) {
+            return new CompressValueEncoder(encoder, compressThreshold);
+        }
+        return encoder;
     }
 
     @Override
@@ -65,6 +79,8 @@ public class DefaultEncoderParser implements EncoderParser {
             return new Kryo5ValueDecoder(useIdentityNumber);
         } else if (SerialPolicyTypeEnum.GSON.name().equalsIgnoreCase(valueDecoder)) {
             return new GsonValueDecoder(useIdentityNumber);
+        } else if (SerialPolicyTypeEnum.JACKSON.name().equalsIgnoreCase(valueDecoder)) {
+            return new JacksonValueDecoder(useIdentityNumber);
         } else {
             throw new CacheConfigException("not supported:" + valueDecoder);
         }
@@ -91,6 +107,23 @@ public class DefaultEncoderParser implements EncoderParser {
         return useIdentityNumber;
     }
 
+    private Integer parseCompressThreshold(URI uri) {
+        String threshold = parseQueryParameters(uri.getQuery()).get("compressThreshold");
+        if (threshold == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(threshold.trim());
+        } catch (NumberFormatException e) {
+            throw new CacheConfigException("illegal compressThreshold:" + threshold);
+        }
+    }
+
+    private boolean isEnvelope(URI uri) {
+        Map<String, String> params = parseQueryParameters(uri.getQuery());
+        return "true".equalsIgnoreCase(params.get("envelope"));
+    }
+
     /**
      * 解析查询参数字符串为键值对映射
      * 该方法接收一个查询字符串，将其解析为一个Map，
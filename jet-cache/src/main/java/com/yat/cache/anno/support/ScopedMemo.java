@@ -0,0 +1,133 @@
+package com.yat.cache.anno.support;
+
+import com.yat.cache.core.JetCache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ClassName ScopedMemo
+ * <p>Description 请求作用域内的方法结果备忘表</p>
+ * <p>
+ * 由 {@link CacheContext#withRequestScope(java.util.function.Supplier)} 开启，在作用域内位于所有缓存之前：
+ * 同一个缓存、同一个键的重复读取只做一次哈希查找，不再经过键转换、本地缓存与远程缓存。
+ * 作用域内对同一缓存的 @JetCacheInvalidate/@JetCacheUpdate 会清除该缓存在备忘表中的全部条目；
+ * 异步写入时受影响的键在写入完成前不会被备忘，避免作用域内的读取把写入前的旧值记下来。
+ * 可以通过 {@link CacheContext#propagate(Runnable)} 传递给子任务线程，因此内部使用并发安全的 Map。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/20 10:15
+ * version 1.0
+ */
+public final class ScopedMemo {
+
+    /**
+     * 未命中时 {@link #get(JetCache, Object)} 的返回值
+     */
+    public static final Object MISS = new Object();
+    /**
+     * 缓存 null 值时使用的占位对象
+     */
+    private static final Object NULL = new Object();
+
+    private final ConcurrentHashMap<MemoKey, Object> values = new ConcurrentHashMap<>(16);
+    /**
+     * 正在异步写入的键及未完成的写入次数
+     */
+    private final ConcurrentHashMap<MemoKey, Integer> pending = new ConcurrentHashMap<>();
+
+    ScopedMemo() {
+    }
+
+    /**
+     * 读取备忘的值。
+     *
+     * @param jetCache 缓存实例
+     * @param key      缓存键
+     * @return 备忘的值，未命中时返回 {@link #MISS}
+     */
+    public Object get(JetCache<?, ?> jetCache, Object key) {
+        Object v = values.get(new MemoKey(jetCache, key));
+        if (v == null) {
+            return MISS;
+        }
+        return v == NULL ? null : v;
+    }
+
+    /**
+     * 记录一个值。
+     *
+     * @param jetCache 缓存实例
+     * @param key      缓存键
+     * @param value    值，可以为 null
+     */
+    public void put(JetCache<?, ?> jetCache, Object key, Object value) {
+        MemoKey k = new MemoKey(jetCache, key);
+        Object v = value == null ? NULL : value;
+        values.put(k, v);
+        // 写入后再检查，与并发的 markPending 交错时也不会留下旧值
+        if (!pending.isEmpty() && pending.containsKey(k)) {
+            values.remove(k, v);
+        }
+    }
+
+    /**
+     * 清除指定缓存的全部备忘条目。
+     *
+     * @param jetCache 缓存实例
+     */
+    public void invalidate(JetCache<?, ?> jetCache) {
+        values.keySet().removeIf(k -> k.jetCache == jetCache);
+    }
+
+    /**
+     * 标记键正在异步写入：清除这些键的备忘条目，在返回的回调执行之前不再备忘它们的值。
+     *
+     * @param jetCache 缓存实例
+     * @param keys     缓存键
+     * @return 写入完成后调用的回调
+     */
+    public Runnable markPending(JetCache<?, ?> jetCache, Collection<?> keys) {
+        List<MemoKey> memoKeys = keys.stream().map(k -> new MemoKey(jetCache, k)).toList();
+        for (MemoKey k : memoKeys) {
+            pending.merge(k, 1, Integer::sum);
+            values.remove(k);
+        }
+        return () -> {
+            for (MemoKey k : memoKeys) {
+                pending.computeIfPresent(k, (mk, n) -> n == 1 ? null : n - 1);
+                values.remove(k);
+            }
+        };
+    }
+
+    /**
+     * 缓存实例按引用比较，数组类型的键（未指定 key 时的参数数组）按内容比较
+     */
+    private record MemoKey(JetCache<?, ?> jetCache, Object key) {
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MemoKey other) || jetCache != other.jetCache) {
+                return false;
+            }
+            if (key instanceof Object[] a && other.key instanceof Object[] b) {
+                return Arrays.deepEquals(a, b);
+            }
+            return Objects.equals(key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = System.identityHashCode(jetCache);
+            return 31 * h + (key instanceof Object[] a ? Arrays.deepHashCode(a) : Objects.hashCode(key));
+        }
+    }
+}
@@ -81,6 +81,7 @@ public class JetCacheAutoConfiguration {
         _globalCacheConfig.setAreaInCacheName(props.getAreaInCacheName());
         _globalCacheConfig.setPenetrationProtect(props.isPenetrationProtect());
         _globalCacheConfig.setEnableMethodCache(props.isEnableMethodCache());
+        _globalCacheConfig.setEagerCacheInit(props.isEagerCacheInit());
         _globalCacheConfig.setLocalCacheBuilders(autoConfigureBeans.getLocalCacheBuilders());
         _globalCacheConfig.setRemoteCacheBuilders(autoConfigureBeans.getRemoteCacheBuilders());
         return _globalCacheConfig;
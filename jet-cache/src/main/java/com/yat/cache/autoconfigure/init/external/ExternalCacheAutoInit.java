@@ -8,7 +8,10 @@ import com.yat.cache.autoconfigure.properties.RemoteCacheProperties;
 import com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum;
 import com.yat.cache.core.CacheBuilder;
 import com.yat.cache.core.external.ExternalCacheBuilder;
+import com.yat.cache.core.support.encoders.ClassRegistry;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -35,6 +38,8 @@ public abstract class ExternalCacheAutoInit extends AbstractCacheAutoInit {
         );
         // 解析通用配置
         parseExternalGeneralConfig(builder, remoteCacheProperties);
+        // 解析类编号注册配置
+        parseClassRegistry(remoteCacheProperties, cacheAreaWithPrefix.substring(cacheAreaWithPrefix.indexOf('.') + 1));
         // 后置逻辑
         afterExternalCacheInit(builder, remoteCacheProperties, cacheAreaWithPrefix);
         return builder;
@@ -66,6 +71,13 @@ public abstract class ExternalCacheAutoInit extends AbstractCacheAutoInit {
         builder.setKeyPrefix(properties.getKeyPrefix());
         // 解析并设置广播通道
         builder.setBroadcastChannel(parseBroadcastChannel(properties));
+        // 批量获取是否延迟解码
+        builder.setLazyDecodeMultiGet(Boolean.TRUE.equals(properties.getLazyDecodeMultiGet()));
+        // 键编码方式
+        builder.setCompactKey(Boolean.TRUE.equals(properties.getCompactKey()));
+        if (Objects.nonNull(properties.getKeyHashThreshold())) {
+            builder.setKeyHashThreshold(properties.getKeyHashThreshold());
+        }
 
         // 默认序列化策略
         String valueEncoder = DefaultCacheConstant.DEFAULT_SERIAL_POLICY;
@@ -74,6 +86,18 @@ public abstract class ExternalCacheAutoInit extends AbstractCacheAutoInit {
         if (Objects.nonNull(encoder)) {
             valueEncoder = encoder.name();
         }
+        // 信封格式与压缩通过查询参数传递给编码器解析器
+        List<String> encoderParams = new ArrayList<>();
+        if (Boolean.TRUE.equals(properties.getValueEnvelope())) {
+            encoderParams.add("envelope=true");
+        }
+        Integer compressThreshold = properties.getValueCompressThreshold();
+        if (Objects.nonNull(compressThreshold)) {
+            encoderParams.add("compressThreshold=" + compressThreshold);
+        }
+        if (!encoderParams.isEmpty()) {
+            valueEncoder = valueEncoder + "?" + String.join("&", encoderParams);
+        }
 
         String valueDecoder = DefaultCacheConstant.DEFAULT_SERIAL_POLICY;
         SerialPolicyTypeEnum decoder = properties.getValueDecoder();
@@ -86,6 +110,25 @@ public abstract class ExternalCacheAutoInit extends AbstractCacheAutoInit {
         builder.setValueDecoder(new ParserFunction(valueDecoder));
     }
 
+    /**
+     * 将配置的类以及开启发现时 {@code @JetCached} 方法的返回类型注册到全局的类编号注册表
+     *
+     * @param properties 缓存配置
+     * @param area       缓存区域
+     */
+    protected void parseClassRegistry(RemoteCacheProperties properties, String area) {
+        List<String> registeredClasses = properties.getRegisteredClasses();
+        if (registeredClasses != null && !registeredClasses.isEmpty()) {
+            ClassRegistry.defaultInstance().registerClassNames(registeredClasses);
+        }
+        if (Boolean.TRUE.equals(properties.getDiscoverRegisteredClasses())) {
+            ClassRegistry.defaultInstance().enableDiscovery(area);
+        }
+        if (Boolean.TRUE.equals(properties.getJsonClassId())) {
+            ClassRegistry.defaultInstance().setJsonClassIdEnabled(true);
+        }
+    }
+
     /**
      * Description: 缓存初始化后，执行一些后置逻辑
      * <p>
@@ -75,7 +75,9 @@ public class RedisLettuceAutoConfiguration {
                 RemoteCacheProperties cacheProperties, String cacheAreaWithPrefix
         ) {
             RedisModeEnum mode = cacheProperties.getLettuce().getMode();
-            boolean enablePubSub = parseBroadcastChannel(cacheProperties) != null;
+            boolean broadcastByStream = Boolean.TRUE.equals(cacheProperties.getLettuce().getBroadcastByStream());
+            // Stream 广播复用普通连接，不需要额外的发布/订阅连接
+            boolean enablePubSub = parseBroadcastChannel(cacheProperties) != null && !broadcastByStream;
 
             Long asyncResultTimeoutInMillis = cacheProperties.getLettuce().getAsyncResultTimeoutInMillis();
             if (asyncResultTimeoutInMillis == null) {
@@ -99,9 +101,35 @@ public class RedisLettuceAutoConfiguration {
             } else {
                 throw new IllegalArgumentException("unknown mode:" + mode);
             }
+            if (broadcastByStream) {
+                parseBroadcastStreamConfig(
+                        (RedisLettuceCacheBuilder<?>) externalCacheBuilder, cacheProperties.getLettuce()
+                );
+            }
             return externalCacheBuilder;
         }
 
+        /**
+         * 解析 Redis Stream 广播配置
+         *
+         * @param builder 缓存构建器
+         * @param lettuce Lettuce 配置
+         */
+        private void parseBroadcastStreamConfig(
+                RedisLettuceCacheBuilder<?> builder, RemoteCacheProperties.RedisLettuceProperties lettuce
+        ) {
+            builder.setBroadcastByStream(true);
+            if (lettuce.getBroadcastStreamMaxLen() != null) {
+                builder.setBroadcastStreamMaxLen(lettuce.getBroadcastStreamMaxLen());
+            }
+            if (lettuce.getBroadcastStreamBatchSize() != null) {
+                builder.setBroadcastStreamBatchSize(lettuce.getBroadcastStreamBatchSize());
+            }
+            if (lettuce.getBroadcastStreamPollIntervalInMillis() != null) {
+                builder.setBroadcastStreamPollIntervalInMillis(lettuce.getBroadcastStreamPollIntervalInMillis());
+            }
+        }
+
         @Override
         protected void afterExternalCacheInit(
                 ExternalCacheBuilder<?> builder, RemoteCacheProperties cacheProperties, String cacheAreaWithPrefix
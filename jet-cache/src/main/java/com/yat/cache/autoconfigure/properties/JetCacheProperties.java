@@ -48,6 +48,10 @@ public class JetCacheProperties {
      * 如果启用，方法的返回值将被缓存，再次调用相同参数的方法时将从缓存中读取数据
      */
     private boolean enableMethodCache = true;
+    /**
+     * 是否在启动时预先创建已指定名称的方法缓存，默认为false，在首次调用时创建
+     */
+    private boolean eagerCacheInit = false;
 
     /**
      * 本地缓存的信息 key-缓存区域标识-{@link DefaultCacheConstant#DEFAULT_AREA}
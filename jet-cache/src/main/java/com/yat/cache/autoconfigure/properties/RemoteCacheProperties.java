@@ -11,6 +11,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.util.List;
+
 /**
  * ClassName RemoteCacheProperties
  * Description 远程缓存配置
@@ -36,6 +38,42 @@ public class RemoteCacheProperties extends BaseCacheProperties {
      */
     private SerialPolicyTypeEnum valueEncoder;
     private SerialPolicyTypeEnum valueDecoder;
+    /**
+     * 是否以信封格式写入缓存值，过期时间写在固定头部，简单类型的值直接写为原始字节。
+     * 需要所有读取方都已升级后再开启
+     */
+    private Boolean valueEnvelope;
+    /**
+     * 值压缩阈值（字节），编码结果达到该大小时使用 Deflate 压缩，为空表示不压缩。
+     * 压缩后的值使用独立的标识号，读取方无需额外配置即可解码
+     */
+    private Integer valueCompressThreshold;
+    /**
+     * 注册到类编号注册表的类名，Kryo5 序列化时写入类编号而不是完整类名，
+     * JSON 序列化需另外开启 {@link #jsonClassId}。读取方必须注册相同的类，注册表为全局共享
+     */
+    private List<String> registeredClasses;
+    /**
+     * JSON 序列化时是否为已注册的类写入类编号。旧版本的 JSON 解码器会把这类条目解码为 null，
+     * 滚动升级期间必须保持关闭，所有节点升级后再开启。注册表为全局共享，任一区域开启即全局生效
+     */
+    private Boolean jsonClassId;
+    /**
+     * 是否将本区域 {@code @JetCached} 方法的返回类型自动注册到类编号注册表
+     */
+    private Boolean discoverRegisteredClasses;
+    /**
+     * 批量获取时是否延迟解码，开启后每个值在首次访问时才反序列化，解码失败只影响该键的结果
+     */
+    private Boolean lazyDecodeMultiGet;
+    /**
+     * 组合键（数组、集合）是否使用紧凑的二进制编码，开启后这类键的内容会变化
+     */
+    private Boolean compactKey;
+    /**
+     * 键体超过该长度（字节）时替换为 SHA-256 摘要，为空表示不哈希
+     */
+    private Integer keyHashThreshold;
     /**
      * 广播通道名称
      * 其他JVM中的local cache，但多个服务共用redis同一个channel可能会造成广播风暴，
@@ -67,6 +105,22 @@ public class RemoteCacheProperties extends BaseCacheProperties {
         private Long asyncResultTimeoutInMillis;
         private Integer enablePeriodicRefresh;
         private Boolean enableAllAdaptiveRefreshTriggers;
+        /**
+         * 是否使用 Redis Stream 广播失效消息，断线重连后可补读错过的消息
+         */
+        private Boolean broadcastByStream;
+        /**
+         * 广播 Stream 的最大长度
+         */
+        private Long broadcastStreamMaxLen;
+        /**
+         * 广播 Stream 每次 XREAD 读取的最大消息数
+         */
+        private Integer broadcastStreamBatchSize;
+        /**
+         * 广播 Stream 的轮询间隔（毫秒）
+         */
+        private Long broadcastStreamPollIntervalInMillis;
 
         @NestedConfigurationProperty
         private RedisPropertiesConfig singleton;
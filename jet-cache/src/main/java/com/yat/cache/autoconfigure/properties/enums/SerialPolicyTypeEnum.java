@@ -19,6 +19,7 @@ public enum SerialPolicyTypeEnum {
     KRYO(0x4A953A82),
     KRYO5(0xF6E0A5C0),
     GSON(0xF6E0A5C1),
+    JACKSON(0xF6E0A5C2),
     ;
     /**
      * 序列化的标识号
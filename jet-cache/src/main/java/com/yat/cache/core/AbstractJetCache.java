@@ -364,7 +364,11 @@ public abstract class AbstractJetCache<K, V> implements JetCache<K, V> {
             // 定义一个缓存更新器，根据条件更新缓存
             Consumer<V> cacheUpdater = (loadedValue) -> {
                 if (needUpdate(loadedValue, cacheNullWhenLoaderReturnNull, newLoader)) {
-                    if (timeUnit != null) {
+                    // 加载器按值给出的过期时间优先
+                    long expire = newLoader.expireAfterWrite(loadedValue);
+                    if (expire > 0) {
+                        jetCache.PUT(key, loadedValue, expire, TimeUnit.MILLISECONDS).waitForResult();
+                    } else if (timeUnit != null) {
                         jetCache.PUT(key, loadedValue, expireAfterWrite, timeUnit).waitForResult();
                     } else {
                         jetCache.PUT(key, loadedValue).waitForResult();
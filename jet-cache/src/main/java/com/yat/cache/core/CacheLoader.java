@@ -70,4 +70,15 @@ public interface CacheLoader<K, V> extends Function<K, V> {
         return false;
     }
 
+    /**
+     * 根据加载的值决定本次写入缓存的过期时间。
+     * 默认返回0，表示使用调用方指定的或缓存配置的过期时间。
+     *
+     * @param loadedValue 加载的值
+     * @return 过期时间（毫秒），不大于0时使用默认过期时间
+     */
+    default long expireAfterWrite(V loadedValue) {
+        return 0;
+    }
+
 }
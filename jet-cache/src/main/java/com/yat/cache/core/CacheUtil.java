@@ -115,6 +115,11 @@ public class CacheUtil {
             public boolean vetoCacheUpdate() {
                 return loader.vetoCacheUpdate();
             }
+
+            @Override
+            public long expireAfterWrite(V loadedValue) {
+                return loader.expireAfterWrite(loadedValue);
+            }
         };
     }
 
@@ -182,7 +182,7 @@ public interface JetCache<K, V> extends Closeable {
     /**
      * 如果指定的键尚未与值相关联，则原子性地将该键与给定的值相关联。
      * <p>如果在缓存访问期间发生错误，此方法不会抛出异常。</p>
-     * <p>{@link MultiLevelJetCache}不支持此方法。</p>
+     * <p>{@link MultiLevelJetCache} 在最后一级缓存上执行原子操作，成功后再回填上层缓存。</p>
      *
      * @param key   要与指定值相关联的键
      * @param value 要与指定键相关联的值
@@ -4,6 +4,9 @@ import com.yat.cache.anno.api.DefaultCacheConstant;
 import com.yat.cache.core.support.BroadcastManager;
 import com.yat.cache.core.template.QuickConfig;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * ClassName JetCacheManager
  * <p>Description 定义了缓存管理和广播管理的基本操作</p>
@@ -46,6 +49,27 @@ public interface JetCacheManager {
      */
     <K, V> JetCache<K, V> getCache(String area, String cacheName);
 
+    /**
+     * 获取所有区域中已注册的缓存实例。
+     * 默认返回空集合，不支持枚举缓存的实现无需覆盖。
+     *
+     * @return 缓存实例集合
+     */
+    default Collection<JetCache> getCaches() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * 获取指定区域中已注册的缓存实例。
+     * 默认返回空集合，不支持枚举缓存的实现无需覆盖。
+     *
+     * @param area 缓存所在的区域
+     * @return 缓存实例集合
+     */
+    default Collection<JetCache> getCaches(String area) {
+        return Collections.emptyList();
+    }
+
     /**
      * 放置一个缓存实例，默认区域为 DEFAULT_AREA。
      *
@@ -0,0 +1,40 @@
+package com.yat.cache.core;
+
+import java.util.Set;
+
+/**
+ * ClassName LocalJetCache
+ * <p>Description 只在当前节点内可见的缓存层</p>
+ * <p>
+ * 进程内缓存与本地磁盘缓存都属于此类。多级缓存中位于远程缓存之前的此类缓存层，
+ * 在收到其他节点的广播失效消息时需要移除对应的键。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/22 11:00
+ * version 1.0
+ */
+public interface LocalJetCache<K> {
+
+    /**
+     * 移除本节点中的键，不触发缓存事件。
+     *
+     * @param keys 键集合
+     */
+    void __removeAll(Set<? extends K> keys);
+
+    /**
+     * 清空本节点中的全部条目，不触发缓存事件。
+     */
+    void __clear();
+
+    /**
+     * 读写是否会阻塞当前线程，如访问磁盘。
+     * <p>多级缓存不会在远程缓存客户端的 IO 线程上访问此类缓存层。</p>
+     *
+     * @return 是否阻塞
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+}
@@ -109,6 +109,20 @@ public class MultiLevelCacheBuilder<T extends MultiLevelCacheBuilder<T>> extends
         getConfig().setUseExpireOfSubCache(useExpireOfSubCache);
     }
 
+    public T remoteFirst(boolean remoteFirst) {
+        getConfig().setRemoteFirst(remoteFirst);
+        return self();
+    }
+
+    /**
+     * 设置写入和删除时是否先发出最后一级缓存的操作
+     *
+     * @param remoteFirst 是否先操作最后一级缓存
+     */
+    public void setRemoteFirst(boolean remoteFirst) {
+        getConfig().setRemoteFirst(remoteFirst);
+    }
+
     /**
      * 创建多级缓存构建器实例
      *
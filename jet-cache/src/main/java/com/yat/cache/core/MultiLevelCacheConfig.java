@@ -28,6 +28,11 @@ public class MultiLevelCacheConfig<K, V> extends CacheConfig<K, V> {
      */
     private boolean useExpireOfSubCache;
 
+    /**
+     * 写入和删除时是否先发出最后一级（远程）缓存的操作，再执行上层的本地操作
+     */
+    private boolean remoteFirst;
+
     @Override
     public MultiLevelCacheConfig clone() {
         MultiLevelCacheConfig copy = (MultiLevelCacheConfig) super.clone();
@@ -1,6 +1,7 @@
 package com.yat.cache.core;
 
 import com.yat.cache.core.exception.CacheConfigException;
+import com.yat.cache.core.support.JetCacheExecutor;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -8,7 +9,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * ClassName MultiLevelCache
@@ -25,10 +28,27 @@ public class MultiLevelJetCache<K, V> extends AbstractJetCache<K, V> {
 
     private final MultiLevelCacheConfig<K, V> config;
 
+    /**
+     * 第 i 级查询完成后的处理（回填 0 到 i-1 级、查询 i+1 级）是否会访问阻塞的缓存层，
+     * 只有此时才从远程缓存的 IO 线程切换到 {@link JetCacheExecutor#asyncExecutor()}
+     */
+    private final boolean[] blockingAfter;
+
     public MultiLevelJetCache(MultiLevelCacheConfig<K, V> cacheConfig) throws CacheConfigException {
         this.config = cacheConfig;
         this.caches = cacheConfig.getCaches().toArray(new JetCache[]{});
         checkCaches();
+        this.blockingAfter = new boolean[caches.length];
+        boolean upperBlocking = false;
+        for (int i = 0; i < caches.length; i++) {
+            blockingAfter[i] = upperBlocking || (i + 1 < caches.length && isBlocking(caches[i + 1]));
+            upperBlocking |= isBlocking(caches[i]);
+        }
+    }
+
+    private static boolean isBlocking(JetCache<?, ?> c) {
+        JetCache<?, ?> abs = CacheUtil.getAbstractCache(c);
+        return abs instanceof LocalJetCache && ((LocalJetCache<?>) abs).isBlocking();
     }
 
     private void checkCaches() {
@@ -49,16 +69,36 @@ public class MultiLevelJetCache<K, V> extends AbstractJetCache<K, V> {
 
     @Override
     protected CacheGetResult<V> do_GET(K key) {
-        for (int i = 0; i < caches.length; i++) {
-            JetCache jetCache = caches[i];
-            CacheGetResult result = jetCache.GET(key);
-            if (result.isSuccess()) {
-                CacheValueHolder<V> holder = unwrapHolder(result.getHolder());
+        // 逐级组合各级的异步结果，只有上一级未命中时才查询下一级，远程查询不阻塞调用线程
+        return new CacheGetResult<>(getFromLevel(key, 0));
+    }
+
+    /**
+     * 从指定级别开始查询，命中时回填更高级别的缓存。
+     *
+     * @param key 键
+     * @param i   缓存级别
+     * @return 查询结果
+     */
+    @SuppressWarnings("unchecked")
+    private CompletionStage<ResultData> getFromLevel(K key, int i) {
+        if (i >= caches.length) {
+            return CompletableFuture.completedFuture(new ResultData(CacheResultCode.NOT_EXISTS, null, null));
+        }
+        CompletableFuture<ResultData> future = caches[i].GET(key).future().toCompletableFuture();
+        Function<ResultData, CompletionStage<ResultData>> next = resultData -> {
+            if (resultData.getResultCode() == CacheResultCode.SUCCESS) {
+                CacheValueHolder<V> holder = unwrapHolder((CacheValueHolder<V>) resultData.getOriginData());
                 checkResultAndFillUpperCache(key, i, holder);
-                return new CacheGetResult(CacheResultCode.SUCCESS, null, holder);
+                return CompletableFuture.completedFuture(new ResultData(CacheResultCode.SUCCESS, null, holder));
             }
+            return getFromLevel(key, i + 1);
+        };
+        if (future.isDone() || !blockingAfter[i]) {
+            return future.thenCompose(next);
         }
-        return CacheGetResult.notExistsWithoutMsg();
+        // 回填上级缓存或查询下一级时会访问本地磁盘缓存，不在上一级的 IO 线程上执行
+        return future.thenComposeAsync(next, JetCacheExecutor.asyncExecutor());
     }
 
     @SuppressWarnings("unchecked")
@@ -93,30 +133,57 @@ public class MultiLevelJetCache<K, V> extends AbstractJetCache<K, V> {
     }
 
     private CacheResult PUT_caches(int lastIndex, K key, V value, long expire, TimeUnit timeUnit) {
-        CompletableFuture<ResultData> future = CompletableFuture.completedFuture(null);
-        for (int i = 0; i < lastIndex; i++) {
+        CacheResult[] results = new CacheResult[lastIndex];
+        for (int j = 0; j < lastIndex; j++) {
+            int i = levelIndex(j, lastIndex);
             JetCache jetCache = caches[i];
-            CacheResult r;
             if (timeUnit == null) {
-                r = jetCache.PUT(key, value);
+                results[i] = jetCache.PUT(key, value);
             } else {
-                r = jetCache.PUT(key, value, expire, timeUnit);
+                results[i] = jetCache.PUT(key, value, expire, timeUnit);
             }
-            future = combine(future, r);
         }
-        return new CacheResult(future);
+        return combineAll(results);
     }
 
-    private CompletableFuture<ResultData> combine(CompletableFuture<ResultData> future, CacheResult result) {
-        return future.thenCombine(result.future(), (d1, d2) -> {
-            if (d1 == null) {
-                return d2;
-            }
-            if (d1.getResultCode() != d2.getResultCode()) {
-                return new ResultData(CacheResultCode.PART_SUCCESS, null, null);
+    /**
+     * 计算第 j 个被调用的缓存层级下标。
+     * <p>开启 {@link MultiLevelCacheConfig#isRemoteFirst()} 时从最后一级开始调用，
+     * 让远程的异步操作先发出，本地的同步写入在远程往返期间完成。</p>
+     *
+     * @param j     调用顺序
+     * @param count 参与调用的层级数
+     * @return 缓存层级下标
+     */
+    private int levelIndex(int j, int count) {
+        return config.isRemoteFirst() ? count - 1 - j : j;
+    }
+
+    /**
+     * 等待所有层级完成后一次性汇总结果，而不是逐层串联 future。
+     * <p>所有层级结果码一致时返回该结果，否则返回 {@link CacheResultCode#PART_SUCCESS}。</p>
+     *
+     * @param results 各层级的操作结果
+     * @return 汇总后的结果
+     */
+    @SuppressWarnings("unchecked")
+    private CacheResult combineAll(CacheResult[] results) {
+        if (results.length == 0) {
+            return new CacheResult(CompletableFuture.completedFuture(null));
+        }
+        CompletableFuture<ResultData>[] futures = new CompletableFuture[results.length];
+        for (int i = 0; i < results.length; i++) {
+            futures[i] = results[i].future().toCompletableFuture();
+        }
+        return new CacheResult(CompletableFuture.allOf(futures).thenApply(v -> {
+            ResultData first = futures[0].join();
+            for (int i = 1; i < futures.length; i++) {
+                if (futures[i].join().getResultCode() != first.getResultCode()) {
+                    return new ResultData(CacheResultCode.PART_SUCCESS, null, null);
+                }
             }
-            return d1;
-        });
+            return first;
+        }));
     }
 
     @Override
@@ -155,27 +222,27 @@ public class MultiLevelJetCache<K, V> extends AbstractJetCache<K, V> {
 
     @Override
     protected CacheResult do_PUT_ALL(Map<? extends K, ? extends V> map, long expireAfterWrite, TimeUnit timeUnit) {
-        CompletableFuture<ResultData> future = CompletableFuture.completedFuture(null);
-        for (JetCache c : caches) {
-            CacheResult r;
+        CacheResult[] results = new CacheResult[caches.length];
+        for (int j = 0; j < caches.length; j++) {
+            int i = levelIndex(j, caches.length);
+            JetCache c = caches[i];
             if (timeUnit == null) {
-                r = c.PUT_ALL(map);
+                results[i] = c.PUT_ALL(map);
             } else {
-                r = c.PUT_ALL(map, expireAfterWrite, timeUnit);
+                results[i] = c.PUT_ALL(map, expireAfterWrite, timeUnit);
             }
-            future = combine(future, r);
         }
-        return new CacheResult(future);
+        return combineAll(results);
     }
 
     @Override
     protected CacheResult do_REMOVE(K key) {
-        CompletableFuture<ResultData> future = CompletableFuture.completedFuture(null);
-        for (JetCache jetCache : caches) {
-            CacheResult r = jetCache.REMOVE(key);
-            future = combine(future, r);
+        CacheResult[] results = new CacheResult[caches.length];
+        for (int j = 0; j < caches.length; j++) {
+            int i = levelIndex(j, caches.length);
+            results[i] = caches[i].REMOVE(key);
         }
-        return new CacheResult(future);
+        return combineAll(results);
     }
 
     @Override
@@ -188,17 +255,38 @@ public class MultiLevelJetCache<K, V> extends AbstractJetCache<K, V> {
 
     @Override
     protected CacheResult do_REMOVE_ALL(Set<? extends K> keys) {
-        CompletableFuture<ResultData> future = CompletableFuture.completedFuture(null);
-        for (JetCache jetCache : caches) {
-            CacheResult r = jetCache.REMOVE_ALL(keys);
-            future = combine(future, r);
+        CacheResult[] results = new CacheResult[caches.length];
+        for (int j = 0; j < caches.length; j++) {
+            int i = levelIndex(j, caches.length);
+            results[i] = caches[i].REMOVE_ALL(keys);
         }
-        return new CacheResult(future);
+        return combineAll(results);
     }
 
+    /**
+     * 在最后一级（远程）缓存上执行原子性的 PUT_IF_ABSENT，只有抢占成功后才回填上层缓存。
+     * <p>整个操作只有一次远程往返，上层缓存的回填不影响返回结果。</p>
+     */
     @Override
     protected CacheResult do_PUT_IF_ABSENT(K key, V value, long expireAfterWrite, TimeUnit timeUnit) {
-        throw new UnsupportedOperationException("PUT_IF_ABSENT is not supported by MultiLevelCache");
+        int lastIndex = caches.length - 1;
+        CompletableFuture<ResultData> future = caches[lastIndex].PUT_IF_ABSENT(key, value, expireAfterWrite, timeUnit)
+                .future().toCompletableFuture();
+        Function<ResultData, ResultData> fill = resultData -> {
+            if (resultData.getResultCode() == CacheResultCode.SUCCESS) {
+                if (config.isUseExpireOfSubCache()) {
+                    PUT_caches(lastIndex, key, value, 0, null);
+                } else {
+                    PUT_caches(lastIndex, key, value, expireAfterWrite, timeUnit);
+                }
+            }
+            return resultData;
+        };
+        if (future.isDone() || !blockingAfter[lastIndex]) {
+            return new CacheResult(future.thenApply(fill));
+        }
+        // 回填的上层缓存中有本地磁盘缓存，不在远程缓存的 IO 线程上执行
+        return new CacheResult(future.thenApplyAsync(fill, JetCacheExecutor.asyncExecutor()));
     }
 
     @Override
@@ -226,7 +314,11 @@ public class MultiLevelJetCache<K, V> extends AbstractJetCache<K, V> {
 
     @Override
     public boolean putIfAbsent(K key, V value) {
-        throw new UnsupportedOperationException("putIfAbsent is not supported by MultiLevelCache");
+        long expireAfterWrite = config.isUseExpireOfSubCache()
+                ? caches[caches.length - 1].config().getExpireAfterWriteInMillis()
+                : config().getExpireAfterWriteInMillis();
+        CacheResult result = PUT_IF_ABSENT(key, value, expireAfterWrite, TimeUnit.MILLISECONDS);
+        return result.getResultCode() == CacheResultCode.SUCCESS;
     }
 
     @Override
@@ -15,6 +15,10 @@ import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -77,6 +81,19 @@ public class SimpleJetCacheManager implements JetCacheManager, AutoCloseable {
         return areaMap.get(cacheName);
     }
 
+    @Override
+    public Collection<JetCache> getCaches() {
+        List<JetCache> list = new ArrayList<>();
+        caches.values().forEach(areaMap -> list.addAll(areaMap.values()));
+        return list;
+    }
+
+    @Override
+    public Collection<JetCache> getCaches(String area) {
+        ConcurrentHashMap<String, JetCache> areaMap = caches.get(area);
+        return areaMap == null ? Collections.emptyList() : new ArrayList<>(areaMap.values());
+    }
+
     private ConcurrentHashMap<String, JetCache> getCachesByArea(String area) {
         return caches.computeIfAbsent(area, (key) -> new ConcurrentHashMap<>());
     }
@@ -121,6 +138,9 @@ public class SimpleJetCacheManager implements JetCacheManager, AutoCloseable {
 
     @Override
     public void putBroadcastManager(String area, BroadcastManager broadcastManager) {
+        if (broadcastManager.getArea() == null) {
+            broadcastManager.setArea(area);
+        }
         broadcastManagers.put(area, broadcastManager);
     }
 
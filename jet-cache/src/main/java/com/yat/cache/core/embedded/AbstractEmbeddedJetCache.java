@@ -6,6 +6,7 @@ import com.yat.cache.core.CacheGetResult;
 import com.yat.cache.core.CacheResult;
 import com.yat.cache.core.CacheResultCode;
 import com.yat.cache.core.CacheValueHolder;
+import com.yat.cache.core.LocalJetCache;
 import com.yat.cache.core.MultiGetResult;
 
 import java.util.ArrayList;
@@ -31,7 +32,7 @@ import java.util.stream.Collectors;
  * Date 2024/8/22 10:53
  * version 1.0
  */
-public abstract class AbstractEmbeddedJetCache<K, V> extends AbstractJetCache<K, V> {
+public abstract class AbstractEmbeddedJetCache<K, V> extends AbstractJetCache<K, V> implements LocalJetCache<K> {
 
     private final ReentrantLock lock = new ReentrantLock();
     /**
@@ -199,7 +200,14 @@ public abstract class AbstractEmbeddedJetCache<K, V> extends AbstractJetCache<K,
     }
 
     // internal method
+    @Override
     public void __removeAll(Set<? extends K> keys) {
         innerMap.removeAllValues(keys);
     }
+
+    // internal method
+    @Override
+    public void __clear() {
+        innerMap.clearValues();
+    }
 }
@@ -125,6 +125,11 @@ public class CaffeineJetCache<K, V> extends AbstractEmbeddedJetCache<K, V> {
             public void removeAllValues(Collection keys) {
                 cache.invalidateAll(keys);
             }
+
+            @Override
+            public void clearValues() {
+                cache.invalidateAll();
+            }
         };
     }
 }
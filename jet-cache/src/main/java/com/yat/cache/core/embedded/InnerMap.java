@@ -81,4 +81,11 @@ public interface InnerMap {
      * @param keys 键集合
      */
     void removeAllValues(Collection keys);
+
+    /**
+     * Description: 移除全部条目
+     * <p>
+     * Date: 2024/10/22 10:20
+     */
+    void clearValues();
 }
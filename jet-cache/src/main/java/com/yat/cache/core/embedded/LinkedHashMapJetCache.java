@@ -180,6 +180,16 @@ public class LinkedHashMapJetCache<K, V> extends AbstractEmbeddedJetCache<K, V>
                 lock.unlock();
             }
         }
+
+        @Override
+        public void clearValues() {
+            lock.lock();
+            try {
+                clear();
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 
 
@@ -3,11 +3,16 @@ package com.yat.cache.core.external;
 import cn.hutool.core.lang.Assert;
 import com.yat.cache.anno.api.KeyConvertor;
 import com.yat.cache.core.AbstractJetCache;
+import com.yat.cache.core.CacheGetResult;
+import com.yat.cache.core.CacheResultCode;
+import com.yat.cache.core.CacheValueHolder;
 import com.yat.cache.core.RefreshJetCache;
 import com.yat.cache.core.exception.CacheConfigException;
 import com.yat.cache.core.exception.CacheException;
+import com.yat.cache.core.support.encoders.ValueEnvelope;
 
 import java.io.IOException;
+import java.util.function.Function;
 
 /**
  * ClassName AbstractExternalJetCache
@@ -20,10 +25,14 @@ import java.io.IOException;
 public abstract class AbstractExternalJetCache<K, V> extends AbstractJetCache<K, V> {
 
     private final ExternalCacheConfig<K, V> config;
+    private final ExternalKeyEncoder keyEncoder;
 
     public AbstractExternalJetCache(ExternalCacheConfig<K, V> config) {
         this.config = config;
         checkConfig();
+        // 前缀字节按编码器实例缓存，因此每个缓存单独创建
+        this.keyEncoder = new ExternalKeyEncoder(config.isCompactKey(), config.getKeyHashThreshold(),
+                config.getKeyHasher());
     }
 
     /**
@@ -73,13 +82,50 @@ public abstract class AbstractExternalJetCache<K, V> extends AbstractJetCache<K,
             }
 
             // 使用转换后的键和配置的键前缀生成最终的外部键
-            return ExternalKeyUtil.buildKeyAfterConvert(newKey, config.getKeyPrefix());
+            return keyEncoder.encode(newKey, config.getKeyPrefix());
         } catch (IOException e) {
             // 如果在生成键的过程中发生IO异常，则抛出缓存异常
             throw new CacheException(e);
         }
     }
 
+    /**
+     * 将批量读取返回的字节数组转换为单个键的获取结果。
+     * <p>
+     * 信封格式的过期条目只读头部即可判断；开启 {@link ExternalCacheConfig#isLazyDecodeMultiGet()} 时保留原始字节，
+     * 首次访问该键的结果时再解码，否则立即解码，解码失败时抛出异常由调用方按整体失败处理。
+     * </p>
+     *
+     * @param key          原始键
+     * @param bytes        远程缓存返回的字节数组，不存在时为 null
+     * @param valueDecoder 值解码器
+     * @return 获取结果
+     */
+    @SuppressWarnings("unchecked")
+    protected CacheGetResult<V> toMultiGetItem(K key, byte[] bytes, Function<byte[], Object> valueDecoder) {
+        if (bytes == null) {
+            return CacheGetResult.notExistsWithoutMsg();
+        }
+        if (ValueEnvelope.isExpired(bytes, System.currentTimeMillis())) {
+            return CacheGetResult.expiredWithoutMsg();
+        }
+        if (config.isLazyDecodeMultiGet()) {
+            return new LazyCacheGetResult<>(bytes, b -> {
+                try {
+                    return valueDecoder.apply(b);
+                } catch (RuntimeException e) {
+                    logError("GET_ALL", key, e);
+                    throw e;
+                }
+            });
+        }
+        CacheValueHolder<V> holder = (CacheValueHolder<V>) valueDecoder.apply(bytes);
+        if (System.currentTimeMillis() >= holder.getExpireTime()) {
+            return CacheGetResult.expiredWithoutMsg();
+        }
+        return new CacheGetResult<>(CacheResultCode.SUCCESS, null, holder);
+    }
+
     private boolean isPreservedKey(Object key) {
         if (key instanceof byte[] keyBytes) {
             return endWith(keyBytes, RefreshJetCache.LOCK_KEY_SUFFIX) ||
@@ -110,6 +110,50 @@ public abstract class ExternalCacheBuilder<T extends ExternalCacheBuilder<T>> ex
         return self();
     }
 
+    /**
+     * 设置批量获取时是否延迟解码。
+     *
+     * @param lazyDecodeMultiGet 是否延迟解码。
+     * @return 当前构建器实例。
+     */
+    public T lazyDecodeMultiGet(boolean lazyDecodeMultiGet) {
+        getConfig().setLazyDecodeMultiGet(lazyDecodeMultiGet);
+        return self();
+    }
+
+    /**
+     * 设置组合键是否使用紧凑编码。
+     *
+     * @param compactKey 是否使用紧凑编码。
+     * @return 当前构建器实例。
+     */
+    public T compactKey(boolean compactKey) {
+        getConfig().setCompactKey(compactKey);
+        return self();
+    }
+
+    /**
+     * 设置键哈希阈值。
+     *
+     * @param keyHashThreshold 键体超过该长度时替换为摘要。
+     * @return 当前构建器实例。
+     */
+    public T keyHashThreshold(int keyHashThreshold) {
+        getConfig().setKeyHashThreshold(keyHashThreshold);
+        return self();
+    }
+
+    /**
+     * 设置键摘要函数。
+     *
+     * @param keyHasher 键摘要函数。
+     * @return 当前构建器实例。
+     */
+    public T keyHasher(Function<byte[], byte[]> keyHasher) {
+        getConfig().setKeyHasher(keyHasher);
+        return self();
+    }
+
     /**
      * 设置键前缀。
      *
@@ -149,4 +193,31 @@ public abstract class ExternalCacheBuilder<T extends ExternalCacheBuilder<T>> ex
     public void setValueDecoder(Function<byte[], Object> valueDecoder) {
         getConfig().setValueDecoder(valueDecoder);
     }
+
+    /**
+     * 设置批量获取时是否延迟解码。
+     *
+     * @param lazyDecodeMultiGet 是否延迟解码。
+     */
+    public void setLazyDecodeMultiGet(boolean lazyDecodeMultiGet) {
+        getConfig().setLazyDecodeMultiGet(lazyDecodeMultiGet);
+    }
+
+    /**
+     * 设置组合键是否使用紧凑编码。
+     *
+     * @param compactKey 是否使用紧凑编码。
+     */
+    public void setCompactKey(boolean compactKey) {
+        getConfig().setCompactKey(compactKey);
+    }
+
+    /**
+     * 设置键哈希阈值。
+     *
+     * @param keyHashThreshold 键体超过该长度时替换为摘要。
+     */
+    public void setKeyHashThreshold(int keyHashThreshold) {
+        getConfig().setKeyHashThreshold(keyHashThreshold);
+    }
 }
@@ -41,6 +41,26 @@ public class ExternalCacheConfig<K, V> extends CacheConfig<K, V> {
      */
     private String broadcastChannel;
 
+    /**
+     * 批量获取时是否延迟解码，开启后每个值在首次访问时才反序列化。
+     */
+    private boolean lazyDecodeMultiGet;
+
+    /**
+     * 组合键（数组、集合）是否使用紧凑的二进制编码，默认使用 Java 序列化。
+     */
+    private boolean compactKey;
+
+    /**
+     * 键体超过该长度（字节）时替换为摘要，小于等于 0 表示不哈希。
+     */
+    private int keyHashThreshold;
+
+    /**
+     * 键摘要函数，为 null 时使用 SHA-256。
+     */
+    private Function<byte[], byte[]> keyHasher;
+
     /**
      * 获取键前缀。
      *
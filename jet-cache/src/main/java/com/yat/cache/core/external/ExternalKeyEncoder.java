@@ -0,0 +1,384 @@
+package com.yat.cache.core.external;
+
+import cn.hutool.core.lang.Assert;
+import com.yat.cache.core.exception.CacheException;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ClassName ExternalKeyEncoder
+ * <p>Description 远程缓存键编码器</p>
+ * <p>
+ * 键直接编码到线程复用的缓冲区，最后一次分配得到带前缀的结果；前缀的 UTF-8 字节按前缀字符串缓存。
+ * {@code String}、{@code byte[]}、数字、日期、布尔值的编码结果与旧版 {@link ExternalKeyUtil} 完全一致，
+ * 升级后已有的键仍然可以命中。
+ * </p>
+ * <p>
+ * 开启紧凑编码后，{@code Object[]} 与 {@link Collection} 等组合键使用带类型标记的二进制格式，
+ * 不再经过 {@link ObjectOutputStream}；配置哈希阈值后，超过阈值的键体替换为摘要，避免超长的键。
+ * 这两项都会改变键的内容，需要所有节点使用相同配置。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/19 14:10
+ * version 1.0
+ */
+public class ExternalKeyEncoder {
+
+    /**
+     * 兼容旧格式的默认实例
+     */
+    public static final ExternalKeyEncoder DEFAULT = new ExternalKeyEncoder(false, 0, null);
+    /**
+     * 紧凑编码的组合键以该字节开头
+     */
+    static final byte COMPACT_MARKER = 0x1E;
+    /**
+     * 哈希后的键体以该字节开头
+     */
+    static final byte HASH_MARKER = 0x1F;
+    private static final byte TAG_NULL = 'N';
+    private static final byte TAG_STRING = 'S';
+    private static final byte TAG_INTEGER = 'I';
+    private static final byte TAG_LONG = 'J';
+    private static final byte TAG_SHORT = 'H';
+    private static final byte TAG_BYTE = 'b';
+    private static final byte TAG_DOUBLE = 'D';
+    private static final byte TAG_FLOAT = 'F';
+    private static final byte TAG_BOOLEAN = 'Z';
+    private static final byte TAG_CHAR = 'C';
+    private static final byte TAG_DATE = 'T';
+    private static final byte TAG_BYTES = 'B';
+    private static final byte TAG_ENUM = 'E';
+    private static final byte TAG_LIST = 'L';
+    private static final byte TAG_OBJECT = 'O';
+    /**
+     * 与旧版 SimpleDateFormat("yyyyMMddHHmmss,SSS") 输出一致，线程安全
+     */
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss,SSS").withZone(ZoneId.systemDefault());
+    private static final int INIT_BUFFER_SIZE = 256;
+    /**
+     * 线程缓冲区允许保留的最大容量
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 8 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INIT_BUFFER_SIZE]);
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new CacheException(e);
+        }
+    });
+    /**
+     * 类的简单名的 UTF-8 字节缓存
+     */
+    private static final ConcurrentHashMap<Class<?>, byte[]> simpleNames = new ConcurrentHashMap<>();
+
+    private final boolean compact;
+    private final int hashThreshold;
+    private final Function<byte[], byte[]> hasher;
+    private volatile PrefixBytes prefixBytes;
+
+    /**
+     * @param compact       组合键是否使用紧凑编码
+     * @param hashThreshold 键体超过该长度时替换为摘要，小于等于 0 表示不哈希
+     * @param hasher        摘要函数，为 null 时使用 SHA-256
+     */
+    public ExternalKeyEncoder(boolean compact, int hashThreshold, Function<byte[], byte[]> hasher) {
+        this.compact = compact;
+        this.hashThreshold = hashThreshold;
+        this.hasher = hasher == null ? ExternalKeyEncoder::sha256 : hasher;
+    }
+
+    /**
+     * SHA-256 摘要。
+     *
+     * @param bytes 键体
+     * @return 摘要
+     */
+    public static byte[] sha256(byte[] bytes) {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return digest.digest(bytes);
+    }
+
+    /**
+     * 编码键并加上前缀。
+     *
+     * @param key    经过键转换器后的键
+     * @param prefix 前缀
+     * @return 键的字节数组
+     * @throws IOException 序列化组合键失败时
+     */
+    public byte[] encode(Object key, String prefix) throws IOException {
+        Assert.notNull(key, () -> new NullPointerException("key can't be null"));
+        byte[] prefix0 = prefixBytes(prefix);
+        if (key instanceof byte[] bytes && (hashThreshold <= 0 || bytes.length <= hashThreshold)) {
+            return concat(prefix0, bytes, bytes.length);
+        }
+        // 取出线程缓冲区，嵌套调用时会分配新的缓冲区
+        byte[] buffer = BUFFER.get();
+        BUFFER.set(null);
+        Output out = new Output(buffer == null ? new byte[INIT_BUFFER_SIZE] : buffer);
+        try {
+            writeKey(out, key);
+            if (hashThreshold > 0 && out.pos > hashThreshold) {
+                byte[] digest = hasher.apply(Arrays.copyOf(out.buf, out.pos));
+                byte[] rt = new byte[prefix0.length + 1 + digest.length];
+                System.arraycopy(prefix0, 0, rt, 0, prefix0.length);
+                rt[prefix0.length] = HASH_MARKER;
+                System.arraycopy(digest, 0, rt, prefix0.length + 1, digest.length);
+                return rt;
+            }
+            return concat(prefix0, out.buf, out.pos);
+        } finally {
+            if (out.buf.length <= MAX_RETAINED_BUFFER_SIZE) {
+                BUFFER.set(out.buf);
+            }
+        }
+    }
+
+    private byte[] prefixBytes(String prefix) {
+        PrefixBytes p = prefixBytes;
+        if (p == null || !p.prefix.equals(prefix)) {
+            p = new PrefixBytes(prefix, prefix.getBytes(StandardCharsets.UTF_8));
+            prefixBytes = p;
+        }
+        return p.bytes;
+    }
+
+    private static byte[] concat(byte[] prefix, byte[] body, int bodyLength) {
+        byte[] rt = new byte[prefix.length + bodyLength];
+        System.arraycopy(prefix, 0, rt, 0, prefix.length);
+        System.arraycopy(body, 0, rt, prefix.length, bodyLength);
+        return rt;
+    }
+
+    private void writeKey(Output out, Object key) throws IOException {
+        if (key instanceof String s) {
+            out.writeUtf8(s);
+        } else if (key instanceof byte[] bytes) {
+            out.write(bytes, 0, bytes.length);
+        } else if (key instanceof Number) {
+            // 与旧格式一致：简单类名 + 十进制文本
+            writeSimpleName(out, key.getClass());
+            if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+                out.writeDecimal(((Number) key).longValue());
+            } else {
+                out.writeUtf8(key.toString());
+            }
+        } else if (key instanceof Date d) {
+            writeSimpleName(out, key.getClass());
+            out.writeUtf8(DATE_FORMATTER.format(Instant.ofEpochMilli(d.getTime())));
+        } else if (key instanceof Boolean b) {
+            out.writeUtf8(b ? "true" : "false");
+        } else if (compact && (key instanceof Object[] || key instanceof Collection)) {
+            out.write(COMPACT_MARKER);
+            writeTagged(out, key);
+        } else if (key instanceof Serializable) {
+            writeSerialized(out, key);
+        } else {
+            throw new CacheException("can't convert key of class: " + key.getClass());
+        }
+    }
+
+    private static void writeSimpleName(Output out, Class<?> clazz) {
+        byte[] name = simpleNames.computeIfAbsent(clazz, c -> c.getSimpleName().getBytes(StandardCharsets.UTF_8));
+        out.write(name, 0, name.length);
+    }
+
+    private void writeTagged(Output out, Object value) throws IOException {
+        if (value == null) {
+            out.write(TAG_NULL);
+        } else if (value instanceof String s) {
+            out.write(TAG_STRING);
+            writeSizedUtf8(out, s);
+        } else if (value instanceof Integer i) {
+            out.write(TAG_INTEGER);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.write(TAG_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Short s) {
+            out.write(TAG_SHORT);
+            out.write(s >> 8);
+            out.write(s);
+        } else if (value instanceof Byte b) {
+            out.write(TAG_BYTE);
+            out.write(b);
+        } else if (value instanceof Double d) {
+            out.write(TAG_DOUBLE);
+            out.writeLong(Double.doubleToLongBits(d));
+        } else if (value instanceof Float f) {
+            out.write(TAG_FLOAT);
+            out.writeInt(Float.floatToIntBits(f));
+        } else if (value instanceof Boolean b) {
+            out.write(TAG_BOOLEAN);
+            out.write(b ? 1 : 0);
+        } else if (value instanceof Character c) {
+            out.write(TAG_CHAR);
+            out.write(c >> 8);
+            out.write(c);
+        } else if (value.getClass() == Date.class) {
+            out.write(TAG_DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[] bytes) {
+            out.write(TAG_BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        } else if (value instanceof Enum<?> e) {
+            out.write(TAG_ENUM);
+            writeSizedUtf8(out, e.getDeclaringClass().getName());
+            writeSizedUtf8(out, e.name());
+        } else if (value instanceof Object[] array) {
+            out.write(TAG_LIST);
+            out.writeInt(array.length);
+            for (Object o : array) {
+                writeTagged(out, o);
+            }
+        } else if (value instanceof Collection<?> collection) {
+            out.write(TAG_LIST);
+            out.writeInt(collection.size());
+            for (Object o : collection) {
+                writeTagged(out, o);
+            }
+        } else if (value instanceof Serializable) {
+            out.write(TAG_OBJECT);
+            int lengthIndex = out.pos;
+            out.writeInt(0);
+            writeSerialized(out, value);
+            out.setInt(lengthIndex, out.pos - lengthIndex - 4);
+        } else {
+            throw new CacheException("can't convert key of class: " + value.getClass());
+        }
+    }
+
+    private static void writeSizedUtf8(Output out, String s) {
+        int lengthIndex = out.pos;
+        out.writeInt(0);
+        out.writeUtf8(s);
+        out.setInt(lengthIndex, out.pos - lengthIndex - 4);
+    }
+
+    private static void writeSerialized(Output out, Object value) throws IOException {
+        ObjectOutputStream os = new ObjectOutputStream(out);
+        os.writeObject(value);
+        os.flush();
+    }
+
+    private static final class PrefixBytes {
+        private final String prefix;
+        private final byte[] bytes;
+
+        private PrefixBytes(String prefix, byte[] bytes) {
+            this.prefix = prefix;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * 可增长的输出缓冲区
+     */
+    private static final class Output extends OutputStream {
+        private byte[] buf;
+        private int pos;
+
+        private Output(byte[] buf) {
+            this.buf = buf;
+        }
+
+        private void ensure(int n) {
+            if (pos + n > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, pos + n));
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            ensure(1);
+            buf[pos++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensure(len);
+            System.arraycopy(b, off, buf, pos, len);
+            pos += len;
+        }
+
+        private void writeInt(int v) {
+            ensure(4);
+            setInt(pos, v);
+            pos += 4;
+        }
+
+        private void setInt(int index, int v) {
+            buf[index] = (byte) (v >> 24);
+            buf[index + 1] = (byte) (v >> 16);
+            buf[index + 2] = (byte) (v >> 8);
+            buf[index + 3] = (byte) v;
+        }
+
+        private void writeLong(long v) {
+            writeInt((int) (v >>> 32));
+            writeInt((int) v);
+        }
+
+        /**
+         * 写入十进制文本，与 {@link Long#toString(long)} 一致
+         */
+        private void writeDecimal(long v) {
+            if (v == Long.MIN_VALUE) {
+                writeUtf8(Long.toString(v));
+                return;
+            }
+            if (v < 0) {
+                write('-');
+                v = -v;
+            }
+            int digits = 1;
+            for (long t = v; t >= 10; t /= 10) {
+                digits++;
+            }
+            ensure(digits);
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buf[i] = (byte) ('0' + v % 10);
+                v /= 10;
+            }
+            pos += digits;
+        }
+
+        /**
+         * 直接写入 UTF-8 字节，ASCII 字符逐个写入，遇到非 ASCII 字符时剩余部分交给 JDK 编码，
+         * 保证与 {@link String#getBytes(java.nio.charset.Charset)} 的结果一致
+         */
+        private void writeUtf8(String s) {
+            int len = s.length();
+            ensure(len);
+            for (int i = 0; i < len; i++) {
+                char c = s.charAt(i);
+                if (c >= 0x80) {
+                    byte[] rest = s.substring(i).getBytes(StandardCharsets.UTF_8);
+                    write(rest, 0, rest.length);
+                    return;
+                }
+                buf[pos++] = (byte) c;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.yat.cache.core.external;
+
+import com.yat.cache.core.CacheGetResult;
+import com.yat.cache.core.CacheResultCode;
+import com.yat.cache.core.CacheValueHolder;
+import com.yat.cache.core.ResultData;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * ClassName LazyCacheGetResult
+ * <p>Description 延迟解码的缓存获取结果</p>
+ * <p>
+ * 保留远程缓存返回的原始字节，首次访问结果码、值或 {@link #future()} 时才解码并判断是否过期，
+ * 批量读取后只使用部分结果时可以省去其余条目的反序列化。解码失败时结果为 {@link CacheResultCode#FAIL}。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/19 10:20
+ * version 1.0
+ */
+public class LazyCacheGetResult<V> extends CacheGetResult<V> {
+
+    private final CompletableFuture<ResultData> lazyFuture;
+    private final Function<byte[], Object> valueDecoder;
+    /**
+     * 待解码的原始字节，解码完成后置为 null
+     */
+    private byte[] bytes;
+
+    public LazyCacheGetResult(byte[] bytes, Function<byte[], Object> valueDecoder) {
+        this(new CompletableFuture<>(), bytes, valueDecoder);
+    }
+
+    private LazyCacheGetResult(CompletableFuture<ResultData> future, byte[] bytes,
+                               Function<byte[], Object> valueDecoder) {
+        super(future);
+        this.lazyFuture = future;
+        this.bytes = bytes;
+        this.valueDecoder = valueDecoder;
+    }
+
+    @Override
+    public void waitForResult(Duration timeout) {
+        decode();
+        super.waitForResult(timeout);
+    }
+
+    @Override
+    public CompletionStage<ResultData> future() {
+        decode();
+        return super.future();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void decode() {
+        if (lazyFuture.isDone()) {
+            return;
+        }
+        synchronized (this) {
+            if (bytes == null) {
+                return;
+            }
+            ResultData resultData;
+            try {
+                CacheValueHolder<V> holder = (CacheValueHolder<V>) valueDecoder.apply(bytes);
+                if (System.currentTimeMillis() >= holder.getExpireTime()) {
+                    resultData = new ResultData(CacheResultCode.EXPIRED, null, null);
+                } else {
+                    resultData = new ResultData(CacheResultCode.SUCCESS, null, holder);
+                }
+            } catch (Exception e) {
+                resultData = new ResultData(e);
+            }
+            bytes = null;
+            lazyFuture.complete(resultData);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.yat.cache.core.support;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ClassName BroadcastInboundPipeline
+ * <p>Description 广播消息的入站处理管道</p>
+ * <p>接收线程（如 Netty IO 线程）只负责入队，由单个专用线程按到达顺序批量出队、解码，
+ * 再交给处理函数按缓存合并键后统一移除。每个广播区域一个管道，失效风暴不会占用
+ * {@link JetCacheExecutor} 的公共线程池。</p>
+ * <p>积压超过上限时不再入队，丢弃全部待处理消息并调用溢出处理函数清空本地缓存，
+ * 以有界内存换取一次全量失效。管道状态通过 {@link DefaultMetricsManager} 随缓存统计一起输出。</p>
+ *
+ * @author Yat
+ * Date 2024/10/14 15:02
+ * version 1.0
+ */
+public class BroadcastInboundPipeline implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BroadcastInboundPipeline.class);
+    /**
+     * 默认每批处理的最大消息数
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    /**
+     * 积压每达到该值的整数倍时输出告警日志
+     */
+    public static final int DEFAULT_BACKLOG_WARN_THRESHOLD = 10000;
+    /**
+     * 默认的最大积压消息数
+     */
+    public static final int DEFAULT_MAX_BACKLOG = 100000;
+    /**
+     * 未关闭的管道，用于统计输出
+     */
+    private static final Set<BroadcastInboundPipeline> pipelines = ConcurrentHashMap.newKeySet();
+    /**
+     * 管道名称
+     */
+    private final String name;
+    /**
+     * 待处理消息队列
+     */
+    private final ConcurrentLinkedQueue<InboundMessage> queue = new ConcurrentLinkedQueue<>();
+    /**
+     * 是否已有出队任务在执行，保证同一时刻只有一个线程处理，从而保持到达顺序
+     */
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    /**
+     * 消息解码函数，返回 null 表示消息无效
+     */
+    private final Function<byte[], CacheMessage> decoder;
+    /**
+     * 批量消息处理函数
+     */
+    private final Consumer<List<CacheMessage>> handler;
+    /**
+     * 积压溢出时的处理函数，需要使所有可能受丢弃消息影响的本地缓存失效
+     */
+    private final Runnable overflowHandler;
+    /**
+     * 专用的单线程执行器，空闲时线程自动回收
+     */
+    private final ThreadPoolExecutor executor;
+    /**
+     * 每批处理的最大消息数
+     */
+    private final int batchSize;
+    /**
+     * 最大积压消息数
+     */
+    private final int maxBacklog;
+    /**
+     * 是否发生了积压溢出、尚未执行溢出处理
+     */
+    private final AtomicBoolean overflowed = new AtomicBoolean(false);
+    /**
+     * 当前积压的消息数
+     */
+    private final AtomicInteger backlog = new AtomicInteger();
+    /**
+     * 已接收的消息总数
+     */
+    private final AtomicLong receivedCount = new AtomicLong();
+    /**
+     * 已处理的消息总数
+     */
+    private final AtomicLong processedCount = new AtomicLong();
+    /**
+     * 已处理的批次数
+     */
+    private final AtomicLong batchCount = new AtomicLong();
+    /**
+     * 因积压溢出丢弃的消息总数
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+    /**
+     * 执行溢出处理的次数
+     */
+    private final AtomicLong overflowCount = new AtomicLong();
+    /**
+     * 最近一批消息中最早一条从接收到处理的延迟（毫秒）
+     */
+    @Getter
+    private volatile long lastLagMillis;
+    /**
+     * 从接收到处理的最大延迟（毫秒）
+     */
+    @Getter
+    private volatile long maxLagMillis;
+
+    /**
+     * 初始化入站管道。
+     *
+     * @param name            管道名称，用于线程命名
+     * @param decoder         消息解码函数
+     * @param handler         批量消息处理函数
+     * @param overflowHandler 积压溢出时的处理函数
+     * @param batchSize       每批处理的最大消息数
+     * @param maxBacklog      最大积压消息数
+     */
+    public BroadcastInboundPipeline(String name, Function<byte[], CacheMessage> decoder,
+                                    Consumer<List<CacheMessage>> handler, Runnable overflowHandler,
+                                    int batchSize, int maxBacklog) {
+        this.name = name;
+        this.decoder = decoder;
+        this.handler = handler;
+        this.overflowHandler = overflowHandler;
+        this.batchSize = batchSize;
+        this.maxBacklog = maxBacklog;
+        this.executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "JetCacheBroadcastInbound-" + name);
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+        pipelines.add(this);
+    }
+
+    /**
+     * 接收一条原始消息，仅入队，不在调用线程上解码。
+     * 积压达到上限或溢出处理尚未执行时直接丢弃，由随后的溢出处理覆盖。
+     *
+     * @param message 原始消息字节数组
+     */
+    public void offer(byte[] message) {
+        receivedCount.incrementAndGet();
+        if (overflowed.get() || backlog.get() >= maxBacklog) {
+            overflowed.set(true);
+            droppedCount.incrementAndGet();
+            scheduleDrain();
+            return;
+        }
+        queue.offer(new InboundMessage(message, System.currentTimeMillis()));
+        int currentBacklog = backlog.incrementAndGet();
+        if (currentBacklog % DEFAULT_BACKLOG_WARN_THRESHOLD == 0) {
+            logger.warn("JetCache broadcast inbound backlog is {}", currentBacklog);
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (Throwable e) {
+                draining.set(false);
+                SquashedLogger.getLogger(logger).error("JetCache broadcast inbound schedule error", e);
+            }
+        }
+    }
+
+    /**
+     * 按到达顺序批量处理队列中的消息，直到队列为空。期间发生积压溢出时先执行溢出处理。
+     */
+    private void drain() {
+        try {
+            List<CacheMessage> batch = new ArrayList<>(Math.min(batchSize, DEFAULT_BATCH_SIZE));
+            while (true) {
+                if (overflowed.get()) {
+                    // 未处理的批次会被本地缓存清空覆盖
+                    batch.clear();
+                    handleOverflow();
+                }
+                InboundMessage inbound = queue.poll();
+                if (inbound == null) {
+                    break;
+                }
+                long lag = System.currentTimeMillis() - inbound.receiveTime;
+                if (batch.isEmpty()) {
+                    lastLagMillis = lag;
+                }
+                if (lag > maxLagMillis) {
+                    maxLagMillis = lag;
+                }
+                backlog.decrementAndGet();
+                try {
+                    CacheMessage cacheMessage = decoder.apply(inbound.body);
+                    if (cacheMessage != null) {
+                        batch.add(cacheMessage);
+                    }
+                } catch (Throwable e) {
+                    SquashedLogger.getLogger(logger).error("receive cache notify error", e);
+                }
+                processedCount.incrementAndGet();
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                }
+            }
+            flush(batch);
+        } finally {
+            draining.set(false);
+        }
+        // 释放标志后可能有新消息入队或发生溢出，需要重新检查
+        if (!queue.isEmpty() || overflowed.get()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 丢弃全部积压消息后执行溢出处理。先清除溢出标志再清空本地缓存，
+     * 标志清除前被丢弃的消息都早于本次清空，不会遗漏失效。
+     */
+    private void handleOverflow() {
+        overflowed.set(false);
+        while (queue.poll() != null) {
+            backlog.decrementAndGet();
+            droppedCount.incrementAndGet();
+        }
+        overflowCount.incrementAndGet();
+        logger.warn("JetCache broadcast inbound backlog exceeds {}, clear local caches. pipeline={}",
+                maxBacklog, name);
+        try {
+            overflowHandler.run();
+        } catch (Throwable e) {
+            SquashedLogger.getLogger(logger).error("JetCache broadcast inbound overflow handle error", e);
+        }
+    }
+
+    private void flush(List<CacheMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            handler.accept(batch);
+            batchCount.incrementAndGet();
+        } catch (Throwable e) {
+            SquashedLogger.getLogger(logger).error("receive cache notify error", e);
+        }
+        batch.clear();
+    }
+
+    /**
+     * 获取当前积压的消息数。
+     *
+     * @return 积压消息数
+     */
+    public int getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * 获取已接收的消息总数。
+     *
+     * @return 接收消息数
+     */
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    /**
+     * 获取已处理的消息总数。
+     *
+     * @return 处理消息数
+     */
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /**
+     * 获取已处理的批次数。
+     *
+     * @return 批次数
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * 获取因积压溢出丢弃的消息总数。
+     *
+     * @return 丢弃消息数
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 获取执行溢出处理的次数。
+     *
+     * @return 溢出次数
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    /**
+     * 获取当前状态的快照。
+     *
+     * @return 管道状态
+     */
+    public BroadcastStat snapshot() {
+        BroadcastStat stat = new BroadcastStat();
+        stat.setName(name);
+        stat.setBacklog(getBacklog());
+        stat.setReceivedCount(getReceivedCount());
+        stat.setProcessedCount(getProcessedCount());
+        stat.setDroppedCount(getDroppedCount());
+        stat.setOverflowCount(getOverflowCount());
+        stat.setBatchCount(getBatchCount());
+        stat.setLastLagMillis(lastLagMillis);
+        stat.setMaxLagMillis(maxLagMillis);
+        return stat;
+    }
+
+    /**
+     * 获取所有未关闭管道的状态快照。
+     *
+     * @return 管道状态列表
+     */
+    static List<BroadcastStat> snapshotAll() {
+        List<BroadcastStat> stats = new ArrayList<>(pipelines.size());
+        for (BroadcastInboundPipeline p : pipelines) {
+            stats.add(p.snapshot());
+        }
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        pipelines.remove(this);
+        executor.shutdown();
+    }
+
+    /**
+     * 入队的原始消息及接收时间
+     */
+    private static final class InboundMessage {
+        private final byte[] body;
+        private final long receiveTime;
+
+        private InboundMessage(byte[] body, long receiveTime) {
+            this.body = body;
+            this.receiveTime = receiveTime;
+        }
+    }
+}
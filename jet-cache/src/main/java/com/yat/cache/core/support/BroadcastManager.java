@@ -5,16 +5,23 @@ import com.yat.cache.core.CacheResult;
 import com.yat.cache.core.CacheUtil;
 import com.yat.cache.core.JetCache;
 import com.yat.cache.core.JetCacheManager;
+import com.yat.cache.core.LocalJetCache;
 import com.yat.cache.core.MultiLevelJetCache;
-import com.yat.cache.core.embedded.AbstractEmbeddedJetCache;
 import com.yat.cache.core.exception.CacheConfigException;
 import com.yat.cache.core.external.ExternalCacheConfig;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +47,10 @@ public abstract class BroadcastManager implements AutoCloseable {
      * 缓存管理器
      */
     private final JetCacheManager jetCacheManager;
+    /**
+     * 广播管理器所属的区域，入站消息溢出时只清空该区域的本地缓存
+     */
+    private volatile String area;
 
     /**
      * 初始化缓存管理器。
@@ -50,6 +61,15 @@ public abstract class BroadcastManager implements AutoCloseable {
         this.jetCacheManager = jetCacheManager;
     }
 
+    /**
+     * 设置广播管理器所属的区域，未设置时入站消息溢出会清空所有区域的本地缓存。
+     *
+     * @param area 区域
+     */
+    public void setArea(String area) {
+        this.area = area;
+    }
+
     /**
      * 检查配置项是否正确设置。
      *
@@ -90,25 +110,64 @@ public abstract class BroadcastManager implements AutoCloseable {
      */
     protected void processNotification(byte[] message, Function<byte[], Object> decoder) {
         try {
-            if (message == null) {
-                logger.error("notify message is null");
-                return;
-            }
-            Object value = decoder.apply(message);
-            if (value == null) {
-                logger.error("notify message is null");
-                return;
-            }
-            if (value instanceof CacheMessage) {
-                processCacheMessage((CacheMessage) value);
-            } else {
-                logger.error("the message is not instance of CacheMessage, class={}", value.getClass());
+            CacheMessage cacheMessage = decodeCacheMessage(message, decoder);
+            if (cacheMessage != null) {
+                processCacheMessage(cacheMessage);
             }
         } catch (Throwable e) {
             SquashedLogger.getLogger(logger).error("receive cache notify error", e);
         }
     }
 
+    /**
+     * 批量处理已解码的缓存消息。
+     * <p>按 area + cacheName 合并同一缓存的所有键，每个缓存只调用一次 {@code __removeAll}。</p>
+     *
+     * @param cacheMessages 按到达顺序排列的缓存消息
+     */
+    protected void processCacheMessages(Collection<CacheMessage> cacheMessages) {
+        Map<List<String>, Set<Object>> keysByCache = new LinkedHashMap<>();
+        for (CacheMessage cacheMessage : cacheMessages) {
+            if (sourceId.equals(cacheMessage.getSourceId()) || cacheMessage.getKeys() == null) {
+                continue;
+            }
+            keysByCache.computeIfAbsent(
+                    Arrays.asList(cacheMessage.getArea(), cacheMessage.getCacheName()), k -> new HashSet<>()
+            ).addAll(Arrays.asList(cacheMessage.getKeys()));
+        }
+        keysByCache.forEach((cacheId, keys) -> {
+            try {
+                removeLocalKeys(cacheId.get(0), cacheId.get(1), keys);
+            } catch (Throwable e) {
+                SquashedLogger.getLogger(logger).error("receive cache notify error", e);
+            }
+        });
+    }
+
+    /**
+     * 解码通知消息。
+     *
+     * @param message 接收到的消息字节数组
+     * @param decoder 解码器，用于将消息转换为对象
+     * @return 缓存消息，消息无效时返回 null
+     */
+    protected CacheMessage decodeCacheMessage(byte[] message, Function<byte[], Object> decoder) {
+        if (message == null) {
+            logger.error("notify message is null");
+            return null;
+        }
+        Object value = decoder.apply(message);
+        if (value == null) {
+            logger.error("notify message is null");
+            return null;
+        }
+        if (value instanceof CacheMessage) {
+            return (CacheMessage) value;
+        }
+        logger.error("the message is not instance of CacheMessage, class={}", value.getClass());
+        return null;
+    }
+
     /**
      * 处理缓存消息。
      *
@@ -118,23 +177,61 @@ public abstract class BroadcastManager implements AutoCloseable {
         if (sourceId.equals(cacheMessage.getSourceId())) {
             return;
         }
-        JetCache jetCache = jetCacheManager.getCache(cacheMessage.getArea(), cacheMessage.getCacheName());
+        Set<Object> keys = Stream.of(cacheMessage.getKeys()).collect(Collectors.toSet());
+        removeLocalKeys(cacheMessage.getArea(), cacheMessage.getCacheName(), keys);
+    }
+
+    /**
+     * 从多级缓存的本地缓存层中移除指定的键。
+     *
+     * @param area      缓存区域
+     * @param cacheName 缓存名称
+     * @param keys      需要移除的键
+     */
+    private void removeLocalKeys(String area, String cacheName, Set<Object> keys) {
+        JetCache jetCache = jetCacheManager.getCache(area, cacheName);
         if (jetCache == null) {
-            logger.warn("Cache instance not exists: {},{}", cacheMessage.getArea(), cacheMessage.getCacheName());
+            logger.warn("Cache instance not exists: {},{}", area, cacheName);
             return;
         }
         JetCache absJetCache = CacheUtil.getAbstractCache(jetCache);
         if (!(absJetCache instanceof MultiLevelJetCache)) {
-            logger.warn("Cache instance is not MultiLevelCache: {},{}", cacheMessage.getArea(),
-                    cacheMessage.getCacheName());
+            logger.warn("Cache instance is not MultiLevelCache: {},{}", area, cacheName);
             return;
         }
-        JetCache[] caches = ((MultiLevelJetCache) absJetCache).caches();
-        Set<Object> keys = Stream.of(cacheMessage.getKeys()).collect(Collectors.toSet());
-        for (JetCache c : caches) {
+        forEachLocalLevel((MultiLevelJetCache) absJetCache, local -> local.__removeAll(keys));
+    }
+
+    /**
+     * 清空本区域所有多级缓存的本地缓存层。
+     * <p>无法确定需要失效哪些键时（如入站消息积压溢出被丢弃）使用。其他区域使用各自的频道与入站管道，不受影响。</p>
+     */
+    protected void clearLocalCaches() {
+        String a = area;
+        Collection<JetCache> caches = a == null ? jetCacheManager.getCaches() : jetCacheManager.getCaches(a);
+        for (JetCache jetCache : caches) {
+            JetCache absJetCache = CacheUtil.getAbstractCache(jetCache);
+            if (absJetCache instanceof MultiLevelJetCache) {
+                try {
+                    forEachLocalLevel((MultiLevelJetCache) absJetCache, LocalJetCache::__clear);
+                } catch (Throwable e) {
+                    SquashedLogger.getLogger(logger).error("clear local cache error", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 依次处理多级缓存中位于远程缓存之前的本地缓存层，包括进程内缓存与本地磁盘缓存。
+     *
+     * @param multiLevelJetCache 多级缓存
+     * @param action             对本地缓存层执行的操作
+     */
+    private void forEachLocalLevel(MultiLevelJetCache multiLevelJetCache, Consumer<LocalJetCache> action) {
+        for (JetCache c : multiLevelJetCache.caches()) {
             JetCache localJetCache = CacheUtil.getAbstractCache(c);
-            if (localJetCache instanceof AbstractEmbeddedJetCache) {
-                ((AbstractEmbeddedJetCache) localJetCache).__removeAll(keys);
+            if (localJetCache instanceof LocalJetCache) {
+                action.accept((LocalJetCache) localJetCache);
             } else {
                 break;
             }
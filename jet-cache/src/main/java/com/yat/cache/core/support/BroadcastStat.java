@@ -0,0 +1,63 @@
+package com.yat.cache.core.support;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * ClassName BroadcastStat
+ * <p>Description 广播入站管道在统计时刻的状态</p>
+ * <p>
+ * 积压与延迟为采集时的瞬时值，其余为启动以来的累计值。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/22 10:10
+ * version 1.0
+ */
+@Setter
+@Getter
+public class BroadcastStat implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -5083157246519930842L;
+
+    /**
+     * 管道名称，即广播频道
+     */
+    private String name;
+    /**
+     * 当前积压的消息数
+     */
+    private int backlog;
+    /**
+     * 已接收的消息总数
+     */
+    private long receivedCount;
+    /**
+     * 已处理的消息总数
+     */
+    private long processedCount;
+    /**
+     * 因积压超过上限而丢弃的消息总数
+     */
+    private long droppedCount;
+    /**
+     * 因积压超过上限而清空本地缓存的次数
+     */
+    private long overflowCount;
+    /**
+     * 已处理的批次数
+     */
+    private long batchCount;
+    /**
+     * 最近一批消息中最早一条从接收到处理的延迟（毫秒）
+     */
+    private long lastLagMillis;
+    /**
+     * 从接收到处理的最大延迟（毫秒）
+     */
+    private long maxLagMillis;
+}
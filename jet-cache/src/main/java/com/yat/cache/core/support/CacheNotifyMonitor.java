@@ -6,8 +6,8 @@ import com.yat.cache.core.CacheMonitor;
 import com.yat.cache.core.CacheUtil;
 import com.yat.cache.core.JetCache;
 import com.yat.cache.core.JetCacheManager;
+import com.yat.cache.core.LocalJetCache;
 import com.yat.cache.core.MultiLevelJetCache;
-import com.yat.cache.core.embedded.AbstractEmbeddedJetCache;
 import com.yat.cache.core.event.CacheEvent;
 import com.yat.cache.core.event.CachePutAllEvent;
 import com.yat.cache.core.event.CachePutEvent;
@@ -88,7 +88,7 @@ public class CacheNotifyMonitor implements CacheMonitor {
         if (absCache.isClosed()) {
             return;
         }
-        AbstractEmbeddedJetCache localCache = getLocalCache(absCache);
+        AbstractJetCache localCache = getLocalCache(absCache);
         if (localCache == null) {
             return;
         }
@@ -139,13 +139,13 @@ public class CacheNotifyMonitor implements CacheMonitor {
      * @param absCache 抽象缓存实例。
      * @return 本地缓存实例。
      */
-    private AbstractEmbeddedJetCache getLocalCache(AbstractJetCache absCache) {
+    private AbstractJetCache getLocalCache(AbstractJetCache absCache) {
         if (!(absCache instanceof MultiLevelJetCache)) {
             return null;
         }
         for (JetCache c : ((MultiLevelJetCache) absCache).caches()) {
-            if (c instanceof AbstractEmbeddedJetCache) {
-                return (AbstractEmbeddedJetCache) c;
+            if (c instanceof LocalJetCache) {
+                return (AbstractJetCache) c;
             }
         }
         return null;
@@ -158,7 +158,7 @@ public class CacheNotifyMonitor implements CacheMonitor {
      * @param localCache 本地缓存配置。
      * @return 转换后的键。
      */
-    private Object convertKey(Object key, AbstractEmbeddedJetCache localCache) {
+    private Object convertKey(Object key, AbstractJetCache localCache) {
         Function<Object, Object> keyConvertor = localCache.config().getKeyConvertor();
         if (keyConvertor == null) {
             return key;
@@ -2,10 +2,15 @@ package com.yat.cache.core.support;
 
 import com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum;
 import com.yat.cache.core.support.encoders.AbstractValueDecoder;
+import com.yat.cache.core.support.encoders.CompressValueDecoder;
+import com.yat.cache.core.support.encoders.CompressValueEncoder;
 import com.yat.cache.core.support.encoders.GsonValueDecoder;
+import com.yat.cache.core.support.encoders.JacksonValueDecoder;
 import com.yat.cache.core.support.encoders.JavaValueDecoder;
 import com.yat.cache.core.support.encoders.Kryo5ValueDecoder;
 import com.yat.cache.core.support.encoders.KryoValueDecoder;
+import com.yat.cache.core.support.encoders.PrimitiveValueCodec;
+import com.yat.cache.core.support.encoders.PrimitiveValueDecoder;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
@@ -89,6 +94,14 @@ public class DecoderMap {
             register(SerialPolicyTypeEnum.KRYO5.getCode(), Kryo5ValueDecoder.INSTANCE);
             // 注册Gson的解码器
             register(SerialPolicyTypeEnum.GSON.getCode(), GsonValueDecoder.INSTANCE);
+            // Jackson 为可选依赖，存在时才注册
+            if (isJacksonPresent()) {
+                register(SerialPolicyTypeEnum.JACKSON.getCode(), JacksonValueDecoder.INSTANCE);
+            }
+            // 注册简单类型快速格式的解码器
+            register(PrimitiveValueCodec.IDENTITY_NUMBER, PrimitiveValueDecoder.INSTANCE);
+            // 注册压缩格式的解码器，解压后再按内部标识号分派
+            register(CompressValueEncoder.IDENTITY_NUMBER, CompressValueDecoder.INSTANCE);
             inited = true;
         } finally {
             reentrantLock.unlock();
@@ -121,6 +134,20 @@ public class DecoderMap {
         }
     }
 
+    /**
+     * 判断类路径中是否存在 Jackson。
+     *
+     * @return 是否存在 Jackson
+     */
+    private static boolean isJacksonPresent() {
+        try {
+            Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     /**
      * 获取DecoderMap的默认实例。
      *
@@ -67,6 +67,8 @@ public class DefaultMetricsManager {
                 statInfo.setStartTime(time);
                 statInfo.setEndTime(endTime);
                 statInfo.setStats(stats);
+                statInfo.setMethodStats(MethodStatRecorder.snapshotAll(this));
+                statInfo.setBroadcastStats(BroadcastInboundPipeline.snapshotAll());
                 time = endTime;
 
                 metricsCallback.accept(statInfo);
@@ -128,6 +130,7 @@ public class DefaultMetricsManager {
             long delay = firstDelay(resetTime, resetTimeUnit);
             future = JetCacheExecutor.defaultExecutor().scheduleAtFixedRate(
                     cmd, delay, resetTimeUnit.toMillis(resetTime), TimeUnit.MILLISECONDS);
+            MethodStatRecorder.register(this);
             logger.info("cache stat period at {} {}", resetTime, resetTimeUnit);
         } finally {
             reentrantLock.unlock();
@@ -198,6 +201,7 @@ public class DefaultMetricsManager {
         reentrantLock.lock();
         try {
             future.cancel(false);
+            MethodStatRecorder.unregister(this);
             logger.info("cache stat canceled");
             future = null;
         } finally {
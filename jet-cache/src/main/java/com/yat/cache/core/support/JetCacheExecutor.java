@@ -1,9 +1,12 @@
 package com.yat.cache.core.support;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -25,6 +28,15 @@ public class JetCacheExecutor {
      * 用于处理高IO负载任务的线程池
      */
     protected volatile static ScheduledExecutorService heavyIOExecutor;
+    /**
+     * 缓存查询结果的后续处理线程池，只执行访问本地磁盘缓存等可能阻塞的缓存操作，避免占用 Redis 客户端的 IO 线程
+     */
+    protected volatile static ExecutorService asyncExecutor;
+    /**
+     * 异步方法未命中缓存时调用原方法的线程池，与完成缓存 future 的线程池分开，
+     * 原方法中的同步缓存调用不会等待排在自己后面的任务
+     */
+    protected volatile static ExecutorService loaderExecutor;
     /**
      * 线程计数器，用于为高IO线程池中的线程命名
      */
@@ -42,6 +54,12 @@ public class JetCacheExecutor {
                 if (heavyIOExecutor != null) {
                     heavyIOExecutor.shutdownNow();
                 }
+                if (asyncExecutor != null) {
+                    asyncExecutor.shutdownNow();
+                }
+                if (loaderExecutor != null) {
+                    loaderExecutor.shutdownNow();
+                }
             }
         });
     }
@@ -100,6 +118,63 @@ public class JetCacheExecutor {
         return heavyIOExecutor;
     }
 
+    /**
+     * 获取缓存查询结果的后续处理线程池实例。
+     * 如果实例尚未创建，则创建一个新实例，空闲线程自动回收。
+     *
+     * @return 缓存后续处理的ExecutorService实例
+     */
+    public static ExecutorService asyncExecutor() {
+        if (asyncExecutor != null) {
+            return asyncExecutor;
+        }
+        reentrantLock.lock();
+        try {
+            if (asyncExecutor == null) {
+                asyncExecutor = newPool("JetCacheAsyncExecutor",
+                        Math.max(4, Runtime.getRuntime().availableProcessors()));
+            }
+        } finally {
+            reentrantLock.unlock();
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * 获取异步方法未命中缓存时调用原方法的线程池实例。
+     * 如果实例尚未创建，则创建一个新实例，空闲线程自动回收。
+     *
+     * @return 调用原方法的ExecutorService实例
+     */
+    public static ExecutorService loaderExecutor() {
+        if (loaderExecutor != null) {
+            return loaderExecutor;
+        }
+        reentrantLock.lock();
+        try {
+            if (loaderExecutor == null) {
+                loaderExecutor = newPool("JetCacheLoaderExecutor",
+                        Math.max(8, Runtime.getRuntime().availableProcessors() * 2));
+            }
+        } finally {
+            reentrantLock.unlock();
+        }
+        return loaderExecutor;
+    }
+
+    private static ExecutorService newPool(String name, int size) {
+        AtomicInteger count = new AtomicInteger(0);
+        ThreadFactory tf = r -> {
+            Thread t = new Thread(r, name + count.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), tf);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * 外部设置默认的缓存操作线程池实例。
      *
@@ -117,4 +192,22 @@ public class JetCacheExecutor {
     public static void setHeavyIOExecutor(ScheduledExecutorService heavyIOExecutor) {
         JetCacheExecutor.heavyIOExecutor = heavyIOExecutor;
     }
+
+    /**
+     * 外部设置缓存查询结果的后续处理线程池实例。
+     *
+     * @param asyncExecutor 外部提供的ExecutorService实例
+     */
+    public static void setAsyncExecutor(ExecutorService asyncExecutor) {
+        JetCacheExecutor.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * 外部设置异步方法未命中缓存时调用原方法的线程池实例。
+     *
+     * @param loaderExecutor 外部提供的ExecutorService实例
+     */
+    public static void setLoaderExecutor(ExecutorService loaderExecutor) {
+        JetCacheExecutor.loaderExecutor = loaderExecutor;
+    }
 }
@@ -0,0 +1,145 @@
+package com.yat.cache.core.support;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * ClassName MethodStat
+ * <p>Description 单个缓存注解方法在一个统计周期内的统计信息</p>
+ * <p>
+ * 与按缓存名聚合的 {@link CacheStat} 互补：记录每个 @JetCached 方法的键计算耗时、条件否决次数、
+ * 命中率与加载耗时分布，用于找出缓存开销高于收益的方法。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/20 14:30
+ * version 1.0
+ */
+@Setter
+@Getter
+public class MethodStat implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3216048921785132461L;
+
+    /**
+     * 加载耗时直方图各个桶的上界（毫秒），最后一个桶收集超过最大上界的加载
+     */
+    public static final long[] LOAD_TIME_BUCKETS = {1, 5, 10, 50, 100, 500, 1000};
+
+    /**
+     * 方法名，格式为 类名.方法名(参数类型)
+     */
+    private String method;
+    /**
+     * 方法使用的缓存名
+     */
+    private String cacheName;
+    /**
+     * 统计收集周期的开始时间
+     */
+    private long statStartTime;
+    /**
+     * 统计收集周期的结束时间
+     */
+    private long statEndTime;
+    /**
+     * 经过缓存处理的调用次数，批量方法按参与缓存查询的元素计数
+     */
+    private long invokeCount;
+    /**
+     * 未调用原方法、直接由缓存返回的次数，批量方法按命中的元素计数
+     */
+    private long hitCount;
+    /**
+     * 调用原方法加载的次数
+     */
+    private long loadCount;
+    /**
+     * 加载失败（原方法抛出异常）的次数
+     */
+    private long loadFailCount;
+    /**
+     * 加载总耗时（毫秒）
+     */
+    private long loadTimeSum;
+    /**
+     * 最短加载耗时（毫秒）
+     */
+    private long minLoadTime = Long.MAX_VALUE;
+    /**
+     * 最长加载耗时（毫秒）
+     */
+    private long maxLoadTime;
+    /**
+     * 加载耗时直方图，长度为 {@link #LOAD_TIME_BUCKETS} 的长度加一
+     */
+    private long[] loadTimeHistogram = new long[LOAD_TIME_BUCKETS.length + 1];
+    /**
+     * 键计算总耗时（纳秒）
+     */
+    private long keyEvalTimeSum;
+    /**
+     * 键计算结果为 null、跳过缓存的次数
+     */
+    private long keyNullCount;
+    /**
+     * condition 为 false、跳过缓存的次数
+     */
+    private long conditionVetoCount;
+    /**
+     * postCondition 为 false、结果未写入缓存的次数
+     */
+    private long postConditionVetoCount;
+
+    /**
+     * 获取命中率。
+     *
+     * @return 命中率
+     */
+    public double hitRate() {
+        return invokeCount == 0 ? 0 : (double) hitCount / invokeCount;
+    }
+
+    /**
+     * 获取平均加载耗时（毫秒）。
+     *
+     * @return 平均加载耗时
+     */
+    public double avgLoadTime() {
+        return loadCount == 0 ? 0 : (double) loadTimeSum / loadCount;
+    }
+
+    /**
+     * 获取平均键计算耗时（微秒）。
+     *
+     * @return 平均键计算耗时
+     */
+    public double avgKeyEvalMicros() {
+        return invokeCount == 0 ? 0 : keyEvalTimeSum / 1000.0 / invokeCount;
+    }
+
+    /**
+     * 获取指定分位的加载耗时上界（毫秒），落在最后一个桶时返回最长加载耗时。
+     *
+     * @param percentile 分位，取值 0 到 1
+     * @return 加载耗时上界
+     */
+    public long loadTimePercentile(double percentile) {
+        if (loadCount == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(loadCount * percentile);
+        long count = 0;
+        for (int i = 0; i < LOAD_TIME_BUCKETS.length; i++) {
+            count += loadTimeHistogram[i];
+            if (count >= threshold) {
+                return LOAD_TIME_BUCKETS[i];
+            }
+        }
+        return maxLoadTime;
+    }
+}
@@ -0,0 +1,289 @@
+package com.yat.cache.core.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ClassName MethodStatRecorder
+ * <p>Description 单个缓存注解方法的统计记录器</p>
+ * <p>
+ * 每个方法一个实例，在调用路径上只做 {@link LongAdder} 累加。每个已启动的 {@link DefaultMetricsManager}
+ * 在记录器中拥有独立的统计窗口，各自按统计周期取出快照并重置，随 {@link StatInfo#getMethodStats()} 交给统计回调，
+ * 多个管理器之间互不影响。只要还有管理器处于启动状态就会记录，未开启统计时调用路径不做任何额外计时。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/20 14:45
+ * version 1.0
+ */
+public final class MethodStatRecorder {
+
+    private static final Window[] NO_WINDOWS = new Window[0];
+    /**
+     * 所有方法的记录器，以方法为键，重载方法与同名类中的方法各自统计
+     */
+    private static final ConcurrentHashMap<Method, MethodStatRecorder> recorders = new ConcurrentHashMap<>();
+    /**
+     * 已启动的统计管理器，注册、注销与创建记录器都在类锁内进行
+     */
+    private static final List<Object> owners = new ArrayList<>();
+    /**
+     * 是否记录方法统计，即是否还有已启动的统计管理器
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * 统计中展示的方法名
+     */
+    private final String label;
+    private final String cacheName;
+    /**
+     * 每个已启动的统计管理器一个统计窗口，注册与注销时整体替换
+     */
+    private volatile Window[] windows = NO_WINDOWS;
+
+    private MethodStatRecorder(String label, String cacheName) {
+        this.label = label;
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * 获取或创建方法的记录器。
+     *
+     * @param method    方法
+     * @param label     统计中展示的方法名，仅用于展示
+     * @param cacheName 缓存名
+     * @return 记录器
+     */
+    public static MethodStatRecorder of(Method method, String label, String cacheName) {
+        MethodStatRecorder r = recorders.get(method);
+        if (r != null) {
+            return r;
+        }
+        synchronized (MethodStatRecorder.class) {
+            return recorders.computeIfAbsent(method, m -> {
+                MethodStatRecorder recorder = new MethodStatRecorder(label, cacheName);
+                for (Object owner : owners) {
+                    recorder.addWindow(owner);
+                }
+                return recorder;
+            });
+        }
+    }
+
+    /**
+     * 是否记录方法统计。
+     *
+     * @return 是否记录
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 注册统计管理器，由 {@link DefaultMetricsManager} 启动时调用，此后为其单独统计。
+     *
+     * @param owner 统计管理器
+     */
+    static synchronized void register(Object owner) {
+        if (owners.contains(owner)) {
+            return;
+        }
+        owners.add(owner);
+        for (MethodStatRecorder r : recorders.values()) {
+            r.addWindow(owner);
+        }
+        enabled = true;
+    }
+
+    /**
+     * 注销统计管理器，由 {@link DefaultMetricsManager} 停止时调用，最后一个管理器注销后停止记录。
+     *
+     * @param owner 统计管理器
+     */
+    static synchronized void unregister(Object owner) {
+        if (!owners.remove(owner)) {
+            return;
+        }
+        for (MethodStatRecorder r : recorders.values()) {
+            r.removeWindow(owner);
+        }
+        enabled = !owners.isEmpty();
+    }
+
+    /**
+     * 取出所有方法在统计管理器本周期的统计并重置，跳过本周期没有调用的方法。
+     *
+     * @param owner 统计管理器
+     * @return 方法统计列表
+     */
+    static List<MethodStat> snapshotAll(Object owner) {
+        List<MethodStat> list = new ArrayList<>();
+        for (MethodStatRecorder r : recorders.values()) {
+            for (Window w : r.windows) {
+                if (w.owner == owner) {
+                    MethodStat s = w.snapshotAndReset(r.label, r.cacheName);
+                    if (s.getInvokeCount() > 0) {
+                        list.add(s);
+                    }
+                    break;
+                }
+            }
+        }
+        return list;
+    }
+
+    private void addWindow(Object owner) {
+        Window[] ws = Arrays.copyOf(windows, windows.length + 1);
+        ws[ws.length - 1] = new Window(owner);
+        windows = ws;
+    }
+
+    private void removeWindow(Object owner) {
+        windows = Arrays.stream(windows).filter(w -> w.owner != owner).toArray(Window[]::new);
+    }
+
+    /**
+     * 记录一次调用及键计算耗时。
+     *
+     * @param keyEvalNanos 键计算耗时（纳秒）
+     */
+    public void recordInvoke(long keyEvalNanos) {
+        for (Window w : windows) {
+            w.invokeCount.increment();
+            w.keyEvalTimeSum.add(keyEvalNanos);
+        }
+    }
+
+    /**
+     * 记录一次未调用原方法、由缓存直接返回的调用。
+     */
+    public void recordHit() {
+        for (Window w : windows) {
+            w.hitCount.increment();
+        }
+    }
+
+    /**
+     * 记录一次批量调用，按元素计入调用次数与命中次数，未命中的元素由原方法加载。
+     *
+     * @param elements 参与缓存查询的元素数
+     * @param hits     由缓存直接返回的元素数
+     */
+    public void recordBatch(int elements, int hits) {
+        for (Window w : windows) {
+            w.invokeCount.add(elements);
+            w.hitCount.add(hits);
+        }
+    }
+
+    /**
+     * 记录一次键计算结果为 null 的调用。
+     */
+    public void recordKeyNull() {
+        for (Window w : windows) {
+            w.keyNullCount.increment();
+        }
+    }
+
+    /**
+     * 记录一次 condition 为 false 的调用。
+     */
+    public void recordConditionVeto() {
+        for (Window w : windows) {
+            w.conditionVetoCount.increment();
+        }
+    }
+
+    /**
+     * 记录一次 postCondition 否决写入缓存的调用。
+     */
+    public void recordPostConditionVeto() {
+        for (Window w : windows) {
+            w.postConditionVetoCount.increment();
+        }
+    }
+
+    /**
+     * 记录一次原方法加载。
+     *
+     * @param millis  加载耗时（毫秒）
+     * @param success 是否加载成功
+     */
+    public void recordLoad(long millis, boolean success) {
+        long[] buckets = MethodStat.LOAD_TIME_BUCKETS;
+        int i = 0;
+        while (i < buckets.length && millis > buckets[i]) {
+            i++;
+        }
+        for (Window w : windows) {
+            w.loadCount.increment();
+            if (!success) {
+                w.loadFailCount.increment();
+            }
+            w.loadTimeSum.add(millis);
+            w.minLoadTime.accumulate(millis);
+            w.maxLoadTime.accumulate(millis);
+            w.loadTimeHistogram[i].increment();
+        }
+    }
+
+    /**
+     * 单个统计管理器的统计窗口
+     */
+    private static final class Window {
+        private final Object owner;
+        private final LongAdder invokeCount = new LongAdder();
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder loadCount = new LongAdder();
+        private final LongAdder loadFailCount = new LongAdder();
+        private final LongAdder loadTimeSum = new LongAdder();
+        private final LongAccumulator minLoadTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] loadTimeHistogram = new LongAdder[MethodStat.LOAD_TIME_BUCKETS.length + 1];
+        private final LongAdder keyEvalTimeSum = new LongAdder();
+        private final LongAdder keyNullCount = new LongAdder();
+        private final LongAdder conditionVetoCount = new LongAdder();
+        private final LongAdder postConditionVetoCount = new LongAdder();
+        private volatile long statStartTime = System.currentTimeMillis();
+
+        private Window(Object owner) {
+            this.owner = owner;
+            for (int i = 0; i < loadTimeHistogram.length; i++) {
+                loadTimeHistogram[i] = new LongAdder();
+            }
+        }
+
+        private MethodStat snapshotAndReset(String method, String cacheName) {
+            long now = System.currentTimeMillis();
+            MethodStat s = new MethodStat();
+            s.setMethod(method);
+            s.setCacheName(cacheName);
+            s.setStatStartTime(statStartTime);
+            s.setStatEndTime(now);
+            s.setInvokeCount(invokeCount.sumThenReset());
+            s.setHitCount(hitCount.sumThenReset());
+            s.setLoadCount(loadCount.sumThenReset());
+            s.setLoadFailCount(loadFailCount.sumThenReset());
+            s.setLoadTimeSum(loadTimeSum.sumThenReset());
+            s.setMinLoadTime(minLoadTime.getThenReset());
+            s.setMaxLoadTime(maxLoadTime.getThenReset());
+            long[] histogram = new long[loadTimeHistogram.length];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = loadTimeHistogram[i].sumThenReset();
+            }
+            s.setLoadTimeHistogram(histogram);
+            s.setKeyEvalTimeSum(keyEvalTimeSum.sumThenReset());
+            s.setKeyNullCount(keyNullCount.sumThenReset());
+            s.setConditionVetoCount(conditionVetoCount.sumThenReset());
+            s.setPostConditionVetoCount(postConditionVetoCount.sumThenReset());
+            statStartTime = now;
+            return s;
+        }
+    }
+}
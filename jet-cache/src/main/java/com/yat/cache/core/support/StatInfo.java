@@ -21,6 +21,14 @@ public class StatInfo {
      * 缓存统计列表，包含多个缓存统计项
      */
     private List<CacheStat> stats;
+    /**
+     * 缓存注解方法的统计列表，只包含本周期内有调用的方法
+     */
+    private List<MethodStat> methodStats;
+    /**
+     * 广播入站管道的状态列表
+     */
+    private List<BroadcastStat> broadcastStats;
     /**
      * 统计开始时间
      */
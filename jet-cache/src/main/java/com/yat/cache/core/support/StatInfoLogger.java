@@ -61,6 +61,8 @@ public class StatInfoLogger implements Consumer<StatInfo> {
         } else {
             sb = logStatSummary(statInfo);
         }
+        logMethodStats(sb, statInfo);
+        logBroadcastStats(sb, statInfo);
         logger.info(sb.toString());
     }
 
@@ -186,6 +188,78 @@ public class StatInfoLogger implements Consumer<StatInfo> {
         return sb;
     }
 
+    /**
+     * 追加缓存注解方法的统计表，按加载总耗时倒序排列，便于找出缓存收益最低的方法。
+     *
+     * @param sb       日志内容
+     * @param statInfo 统计信息
+     */
+    private void logMethodStats(StringBuilder sb, StatInfo statInfo) {
+        List<MethodStat> methodStats = statInfo.getMethodStats();
+        if (methodStats == null || methodStats.isEmpty()) {
+            return;
+        }
+        methodStats.sort((o1, o2) -> Long.compare(o2.getLoadTimeSum(), o1.getLoadTimeSum()));
+        int len = Math.max(6, methodStats.stream()
+                .mapToInt((s) -> getName(s.getMethod()).length())
+                .max()
+                .orElse(0));
+        String title = String.format(
+                "%-" + len + "s|%14s|%7s|%14s|%11s|%9s|%9s|%11s|%9s|%9s", "method", "invoke", "rate",
+                "load", "avgLoadTime", "p90Load", "p99Load", "avgKeyUs", "condVeto", "postVeto"
+        );
+        sb.append(title).append('\n');
+        printSepLine(sb, title);
+        for (MethodStat s : methodStats) {
+            sb.append(String.format("%-" + len + "s", getName(s.getMethod()))).append('|');
+            sb.append(String.format("%,14d", s.getInvokeCount())).append('|');
+            sb.append(String.format("%6.2f%%", s.hitRate() * 100)).append('|');
+            sb.append(String.format("%,14d", s.getLoadCount())).append('|');
+            sb.append(String.format("%,11.1f", s.avgLoadTime())).append('|');
+            sb.append(String.format("%,9d", s.loadTimePercentile(0.9))).append('|');
+            sb.append(String.format("%,9d", s.loadTimePercentile(0.99))).append('|');
+            sb.append(String.format("%,11.2f", s.avgKeyEvalMicros())).append('|');
+            sb.append(String.format("%,9d", s.getConditionVetoCount())).append('|');
+            sb.append(String.format("%,9d", s.getPostConditionVetoCount())).append('\n');
+        }
+        printSepLine(sb, title);
+    }
+
+    /**
+     * 追加广播入站管道的状态表。
+     *
+     * @param sb       日志内容
+     * @param statInfo 统计信息
+     */
+    private void logBroadcastStats(StringBuilder sb, StatInfo statInfo) {
+        List<BroadcastStat> broadcastStats = statInfo.getBroadcastStats();
+        if (broadcastStats == null || broadcastStats.isEmpty()) {
+            return;
+        }
+        int len = Math.max(9, broadcastStats.stream()
+                .mapToInt((s) -> getName(s.getName()).length())
+                .max()
+                .orElse(0));
+        String title = String.format(
+                "%-" + len + "s|%10s|%14s|%14s|%12s|%9s|%12s|%11s|%10s", "broadcast", "backlog", "received",
+                "processed", "dropped", "overflow", "batch", "lastLagMs", "maxLagMs"
+        );
+        sb.append(title).append('\n');
+        printSepLine(sb, title);
+        for (BroadcastStat s : broadcastStats) {
+            sb.append(String.format("%-" + len + "s", getName(s.getName()))).append('|');
+            sb.append(String.format("%,10d", s.getBacklog())).append('|');
+            sb.append(String.format("%,14d", s.getReceivedCount())).append('|');
+            sb.append(String.format("%,14d", s.getProcessedCount())).append('|');
+            sb.append(String.format("%,12d", s.getDroppedCount())).append('|');
+            sb.append(String.format("%,9d", s.getOverflowCount())).append('|');
+            sb.append(String.format("%,12d", s.getBatchCount())).append('|');
+            sb.append(String.format("%,11d", s.getLastLagMillis())).append('|');
+            sb.append(String.format("%,10d", s.getMaxLagMillis())).append('\n');
+        }
+        printSepLine(sb, title);
+    }
+
     /**
      * 生成标题行，包括时间范围。
      *
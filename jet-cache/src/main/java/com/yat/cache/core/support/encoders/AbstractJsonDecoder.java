@@ -1,6 +1,7 @@
 package com.yat.cache.core.support.encoders;
 
 import com.yat.cache.core.CacheValueHolder;
+import com.yat.cache.core.exception.CacheEncodeException;
 import com.yat.cache.core.support.CacheMessage;
 
 import java.nio.charset.StandardCharsets;
@@ -86,7 +87,19 @@ public abstract class AbstractJsonDecoder extends AbstractValueDecoder {
         int index = indexHolder[0];
         short classNameLen = readShort(buf, index);
         index += 2;
-        if (classNameLen < 0) {
+        if (classNameLen == AbstractJsonEncoder.CLASS_ID_MARKER) {
+            int classId = readInt(buf, index);
+            index += 4;
+            Class<?> clazz = ClassRegistry.defaultInstance().getClass(classId);
+            if (clazz == null) {
+                throw new CacheEncodeException("class id not registered:" + classId);
+            }
+            int size = readInt(buf, index);
+            index += 4;
+            Object obj = parseObject(buf, index, size, clazz);
+            indexHolder[0] = index + size;
+            return obj;
+        } else if (classNameLen < 0) {
             indexHolder[0] = index;
             return null;
         } else {
@@ -4,14 +4,21 @@ import com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum;
 import com.yat.cache.core.CacheValueHolder;
 import com.yat.cache.core.exception.CacheEncodeException;
 import com.yat.cache.core.support.CacheMessage;
-import lombok.Getter;
-import lombok.Setter;
+import com.yat.cache.core.support.ObjectPool;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ClassName AbstractJsonEncoder
  * <p>Description 抽象 JSON 编码器:提供了基于 JSON 的值编码功能</p>
+ * <p>
+ * 直接写入池化的可增长缓冲区，每个对象的长度先占位、写完后回填，不再构造中间的 JsonData 数组。
+ * {@link CacheValueHolder} 与 {@link CacheMessage} 通过复制元数据的方式拆分，不修改传入的共享实例，
+ * 可以被并发编码。
+ * </p>
  *
  * @author Yat
  * Date 2024/8/22 13:14
@@ -19,122 +26,125 @@ import java.nio.charset.StandardCharsets;
  */
 public abstract class AbstractJsonEncoder extends AbstractValueEncoder {
 
+    /**
+     * 类名长度位置上的标记，表示后面是 {@link ClassRegistry} 中的类编号而不是类名。
+     * 只有 {@link ClassRegistry#isJsonClassIdEnabled()} 开启时才写入，旧版本解码器会把它当作空值
+     */
+    static final short CLASS_ID_MARKER = -2;
+    /**
+     * 输出缓冲区对象池
+     */
+    static ObjectPool<EncodeBuffer> outputPool = new ObjectPool<>(16,
+            new ObjectPool.ObjectFactory<>() {
+                @Override
+                public EncodeBuffer create() {
+                    return new EncodeBuffer();
+                }
+
+                @Override
+                public void reset(EncodeBuffer obj) {
+                    obj.resetAndTrim();
+                }
+            });
+    /**
+     * 类名的 UTF-8 字节缓存
+     */
+    private static final ConcurrentHashMap<Class<?>, byte[]> classNameCache = new ConcurrentHashMap<>();
+
     public AbstractJsonEncoder(boolean useIdentityNumber) {
         super(useIdentityNumber);
     }
 
     @Override
-    public byte[] apply(Object value) {
+    protected byte[] encode(Object value) {
+        EncodeBuffer out = null;
         try {
-            JsonData[] data = encode(value);
-            int len = len(data);
-            byte[] buffer = useIdentityNumber ? new byte[len + 4] : new byte[len];
-            int index = 0;
+            out = outputPool.borrowObject();
+            out.ensureCapacity(sizeStats.suggestedSize());
             if (useIdentityNumber) {
-                index = writeInt(buffer, index, SerialPolicyTypeEnum.GSON.getCode());
+                out.writeInt(getIdentityNumber());
             }
-            if (data == null) {
-                writeShort(buffer, index, -1);
-            } else {
-                index = writeShort(buffer, index, data.length);
-                for (JsonData d : data) {
-                    if (d == null) {
-                        index = writeShort(buffer, index, -1);
-                    } else {
-                        index = writeShort(buffer, index, d.getClassName().length);
-                        index = writeBytes(buffer, index, d.getClassName());
-                        index = writeInt(buffer, index, d.getData().length);
-                        index = writeBytes(buffer, index, d.getData());
+            if (value == null) {
+                out.writeShort(-1);
+            } else if (value instanceof CacheValueHolder<?> h) {
+                CacheValueHolder<Object> meta = new CacheValueHolder<>();
+                meta.setExpireTime(h.getExpireTime());
+                meta.setAccessTime(h.getAccessTime());
+                out.writeShort(2);
+                writeJsonData(out, meta);
+                writeJsonData(out, h.getValue());
+            } else if (value instanceof CacheMessage cm) {
+                Object[] keys = cm.getKeys();
+                CacheMessage meta = new CacheMessage();
+                meta.setSourceId(cm.getSourceId());
+                meta.setArea(cm.getArea());
+                meta.setCacheName(cm.getCacheName());
+                meta.setType(cm.getType());
+                meta.setValues(cm.getValues());
+                out.writeShort(keys == null ? 1 : keys.length + 1);
+                writeJsonData(out, meta);
+                if (keys != null) {
+                    for (Object key : keys) {
+                        writeJsonData(out, key);
                     }
                 }
+            } else {
+                out.writeShort(1);
+                writeJsonData(out, value);
             }
-            return buffer;
+            sizeStats.record(out.size());
+            return out.toByteArray();
         } catch (Throwable e) {
             String message = "Json Encode error. msg=" + e.getMessage();
             throw new CacheEncodeException(message, e);
+        } finally {
+            if (out != null) {
+                outputPool.returnObject(out);
+            }
         }
     }
 
-    private JsonData[] encode(Object value) {
+    private void writeJsonData(EncodeBuffer out, Object value) throws IOException {
         if (value == null) {
-            return null;
+            out.writeShort(-1);
+            return;
         }
-        if (value instanceof CacheValueHolder h) {
-            Object bizObject = h.getValue();
-            h.setValue(null);
-            JsonData[] result = new JsonData[2];
-            result[0] = encodeJsonData(h);
-            result[1] = encodeJsonData(bizObject);
-            h.setValue(bizObject);
-            return result;
-        } else if (value instanceof CacheMessage cm) {
-            Object[] keys = cm.getKeys();
-            cm.setKeys(null);
-            JsonData[] result = keys == null ? new JsonData[1] : new JsonData[keys.length + 1];
-            result[0] = encodeJsonData(cm);
-            if (keys != null) {
-                for (int i = 0; i < keys.length; i++) {
-                    result[i + 1] = encodeJsonData(keys[i]);
-                }
-            }
-            cm.setKeys(keys);
-            return result;
+        Class<?> clazz = value.getClass();
+        ClassRegistry registry = ClassRegistry.defaultInstance();
+        Integer classId = registry.isJsonClassIdEnabled() ? registry.getId(clazz) : null;
+        if (classId != null) {
+            // 已注册的类只写入编号
+            out.writeShort(CLASS_ID_MARKER);
+            out.writeInt(classId);
         } else {
-            return new JsonData[]{encodeJsonData(value)};
-        }
-    }
-
-    private int len(JsonData[] data) {
-        if (data == null) {
-            return 2;
-        }
-        int x = 2;
-        for (JsonData d : data) {
-            if (d == null) {
-                x += 2;
-            } else {
-                x += 2 + d.getClassName().length + 4 + d.getData().length;
-            }
+            byte[] className = classNameCache.computeIfAbsent(clazz,
+                    c -> c.getName().getBytes(StandardCharsets.UTF_8));
+            out.writeShort(className.length);
+            out.write(className, 0, className.length);
         }
-        return x;
-    }
-
-    private int writeInt(byte[] buf, int index, int value) {
-        buf[index] = (byte) (value >> 24 & 0xFF);
-        buf[index + 1] = (byte) (value >> 16 & 0xFF);
-        buf[index + 2] = (byte) (value >> 8 & 0xFF);
-        buf[index + 3] = (byte) (value & 0xFF);
-        return index + 4;
+        // 先写入长度占位，写完数据后回填
+        int lengthIndex = out.size();
+        out.writeInt(0);
+        int start = out.size();
+        writeSingleValue(value, out);
+        out.setInt(lengthIndex, out.size() - start);
     }
 
-    private int writeShort(byte[] buf, int index, int value) {
-        buf[index] = (byte) (value >> 8 & 0xFF);
-        buf[index + 1] = (byte) (value & 0xFF);
-        return index + 2;
+    /**
+     * 获取写入头部的标识号。
+     *
+     * @return 标识号
+     */
+    protected int getIdentityNumber() {
+        return SerialPolicyTypeEnum.GSON.getCode();
     }
 
-    private int writeBytes(byte[] buf, int index, byte[] data) {
-        System.arraycopy(data, 0, buf, index, data.length);
-        return index + data.length;
-    }
-
-    private JsonData encodeJsonData(Object value) {
-        if (value == null) {
-            return null;
-        }
-        JsonData jsonData = new JsonData();
-        jsonData.setClassName(value.getClass().getName().getBytes(StandardCharsets.UTF_8));
-        jsonData.setData(encodeSingleValue(value));
-        return jsonData;
-    }
-
-    protected abstract byte[] encodeSingleValue(Object value);
-
-    @Setter
-    @Getter
-    private static class JsonData {
-        private byte[] className;
-        private byte[] data;
-
-    }
+    /**
+     * 将单个对象序列化为 JSON 并直接写入输出流。
+     *
+     * @param value 待序列化的对象，不为 null
+     * @param out   输出流，实现方不能关闭
+     * @throws IOException 如果写入过程中发生错误
+     */
+    protected abstract void writeSingleValue(Object value, OutputStream out) throws IOException;
 }
@@ -1,10 +1,12 @@
 package com.yat.cache.core.support.encoders;
 
+import com.yat.cache.core.CacheValueHolder;
 import com.yat.cache.core.exception.CacheEncodeException;
 import com.yat.cache.core.support.DecoderMap;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -49,10 +51,7 @@ public abstract class AbstractValueDecoder implements Function<byte[], Object>,
         try {
             if (useIdentityNumber) {
                 decoderMap.initDefaultDecoder();
-                int identityNumber = parseHeader(buffer);
-                AbstractValueDecoder decoder = decoderMap.getDecoder(identityNumber);
-                Objects.requireNonNull(decoder, "no decoder for identity number:" + identityNumber);
-                return decoder.doApply(buffer);
+                return dispatch(buffer, decoderMap);
             } else {
                 return doApply(buffer);
             }
@@ -61,6 +60,56 @@ public abstract class AbstractValueDecoder implements Function<byte[], Object>,
         }
     }
 
+    /**
+     * 按头部标识号选择解码器。信封中的业务对象、压缩前的原始数据等嵌套内容都使用同一个解码器映射表，
+     * 自定义的映射表不会在解压后被默认映射表替换。
+     *
+     * @param buffer     待解码的字节数组
+     * @param decoderMap 解码器映射表
+     * @return 解码后的对象
+     * @throws Exception 如果解码过程中发生错误
+     */
+    protected Object dispatch(byte[] buffer, DecoderMap decoderMap) throws Exception {
+        int identityNumber = parseHeader(buffer);
+        if (identityNumber == ValueEnvelope.IDENTITY_NUMBER) {
+            return decodeEnvelope(buffer, decoderMap);
+        }
+        AbstractValueDecoder decoder = decoderMap.getDecoder(identityNumber);
+        Objects.requireNonNull(decoder, "no decoder for identity number:" + identityNumber);
+        return decoder.doApply(buffer, decoderMap);
+    }
+
+    /**
+     * 解码信封格式：元数据直接从固定头部读取，业务对象按其自身的标识号选择解码器。
+     *
+     * @param buffer     信封字节数组
+     * @param decoderMap 解码器映射表
+     * @return 缓存值持有者
+     * @throws Exception 如果解码过程中发生错误
+     */
+    private CacheValueHolder<Object> decodeEnvelope(byte[] buffer, DecoderMap decoderMap) throws Exception {
+        if (!ValueEnvelope.isEnvelope(buffer)) {
+            throw new CacheEncodeException("corrupted envelope, length:" + buffer.length);
+        }
+        if (!ValueEnvelope.isSupportedVersion(buffer)) {
+            throw new CacheEncodeException("unsupported envelope version:" + ValueEnvelope.version(buffer));
+        }
+        CacheValueHolder<Object> holder = new CacheValueHolder<>();
+        if (PrimitiveValueCodec.isPrimitive(buffer, ValueEnvelope.HEADER_SIZE)) {
+            // 简单类型直接从原数组读取，无需复制
+            holder.setValue(PrimitiveValueCodec.decode(buffer, ValueEnvelope.HEADER_SIZE));
+        } else {
+            byte[] body = Arrays.copyOfRange(buffer, ValueEnvelope.HEADER_SIZE, buffer.length);
+            int identityNumber = parseHeader(body);
+            AbstractValueDecoder decoder = decoderMap.getDecoder(identityNumber);
+            Objects.requireNonNull(decoder, "no decoder for identity number:" + identityNumber);
+            holder.setValue(decoder.doApply(body, decoderMap));
+        }
+        holder.setExpireTime(ValueEnvelope.expireTime(buffer));
+        holder.setAccessTime(ValueEnvelope.accessTime(buffer));
+        return holder;
+    }
+
     /**
      * 解析字节数组头部信息。
      *
@@ -88,4 +137,16 @@ public abstract class AbstractValueDecoder implements Function<byte[], Object>,
      */
     protected abstract Object doApply(byte[] buffer) throws Exception;
 
+    /**
+     * 按调用方的解码器映射表执行解码，内部还需再次分派的解码器（如压缩）覆盖此方法。
+     *
+     * @param buffer     待解码的字节数组
+     * @param decoderMap 调用方的解码器映射表
+     * @return 解码后的对象
+     * @throws Exception 如果解码过程中发生错误
+     */
+    protected Object doApply(byte[] buffer, DecoderMap decoderMap) throws Exception {
+        return doApply(buffer);
+    }
+
 }
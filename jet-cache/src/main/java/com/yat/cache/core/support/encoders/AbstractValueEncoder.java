@@ -1,6 +1,9 @@
 package com.yat.cache.core.support.encoders;
 
+import com.yat.cache.core.CacheValueHolder;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.function.Function;
 
@@ -9,6 +12,7 @@ import java.util.function.Function;
  * <p>Description 抽象值编码器</p>
  * <p>
  * 此抽象类提供了基本的值编码功能，并实现了 {@link Function} 和 {@link ValueEncoders} 接口。
+ * 开启信封格式后，{@link CacheValueHolder} 的元数据写在 {@link ValueEnvelope} 的固定头部，只有业务对象交给子类编码。
  * </p>
  *
  * @author Yat
@@ -22,9 +26,49 @@ public abstract class AbstractValueEncoder implements Function<Object, byte[]>,
      * 标识是否使用标识号进行序列化。
      */
     protected boolean useIdentityNumber;
+    /**
+     * 是否以信封格式写入缓存值持有者，依赖标识号，未使用标识号时不生效
+     */
+    @Setter
+    protected boolean envelope;
+    /**
+     * 本编码器最近编码结果的大小统计，用于预估缓冲区容量
+     */
+    @Getter(AccessLevel.NONE)
+    final ValueSizeStats sizeStats = new ValueSizeStats();
 
     public AbstractValueEncoder(boolean useIdentityNumber) {
         this.useIdentityNumber = useIdentityNumber;
     }
 
+    @Override
+    public byte[] apply(Object value) {
+        if (envelope && useIdentityNumber && value instanceof CacheValueHolder<?> holder) {
+            return encodeEnvelope(holder);
+        }
+        return encode(value);
+    }
+
+    /**
+     * 以信封格式编码缓存值持有者。
+     *
+     * @param holder 缓存值持有者
+     * @return 信封字节数组
+     */
+    protected byte[] encodeEnvelope(CacheValueHolder<?> holder) {
+        // 简单类型直接写为原始字节，不经过子类的序列化
+        if (PrimitiveValueCodec.isSupported(holder.getValue())) {
+            return PrimitiveValueCodec.encodeEnvelope(holder);
+        }
+        return ValueEnvelope.wrap(holder, 0, encode(holder.getValue()));
+    }
+
+    /**
+     * 执行实际的编码逻辑。
+     *
+     * @param value 待编码的对象
+     * @return 编码后的字节数组
+     */
+    protected abstract byte[] encode(Object value);
+
 }
@@ -0,0 +1,237 @@
+package com.yat.cache.core.support.encoders;
+
+import com.yat.cache.core.exception.CacheConfigException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ClassName ClassRegistry
+ * <p>Description 类编号注册表，供 {@link Kryo5ValueEncoder} 与 {@link AbstractJsonEncoder} 共用</p>
+ * <p>
+ * 注册后的类在序列化结果中写入整数编号，而不是完整类名。编号由类名的哈希计算得出，与注册顺序无关，
+ * 不同节点只要注册了同一个类就得到相同的编号；编号冲突在注册时直接报错。读取方必须注册了相同的类才能解码，
+ * 未注册编号的条目解码失败，而不会被误解析为其他类型。
+ * </p>
+ * <p>类可以按区域在配置中指定，也可以在启动时从 {@code @JetCached} 方法的返回类型中发现。</p>
+ *
+ * @author Yat
+ * Date 2024/10/17 16:40
+ * version 1.0
+ */
+public final class ClassRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassRegistry.class);
+    /**
+     * 单例实例
+     */
+    private static final ClassRegistry instance = new ClassRegistry();
+    /**
+     * 编号的最小值，避开 Kryo 内置类型的注册编号
+     */
+    private static final int MIN_ID = 0x100000;
+    /**
+     * 编号取值的掩码
+     */
+    private static final int ID_MASK = 0xFFFFFF;
+
+    /**
+     * 类到编号的映射，写时复制，读取无需加锁
+     */
+    private volatile Map<Class<?>, Integer> classToId = new HashMap<>();
+    /**
+     * 编号到类的映射，写时复制，读取无需加锁
+     */
+    private volatile Map<Integer, Class<?>> idToClass = new HashMap<>();
+    /**
+     * 注册表的版本，每次变更递增，Kryo 实例据此同步注册信息
+     */
+    private volatile int version;
+    /**
+     * JSON 编码时是否写入类编号。旧版本的 JSON 解码器会把类编号标记当作空值解析，
+     * 必须在所有读取方都升级后显式开启
+     */
+    private volatile boolean jsonClassIdEnabled;
+    /**
+     * 已开启返回类型发现的区域
+     */
+    private final Set<String> discoveryAreas = new LinkedHashSet<>();
+    /**
+     * 尚未开启发现的区域中已收集的候选类
+     */
+    private final Map<String, Set<Class<?>>> pendingDiscovered = new HashMap<>();
+
+    private ClassRegistry() {
+    }
+
+    /**
+     * 获取默认实例。
+     *
+     * @return 类编号注册表
+     */
+    public static ClassRegistry defaultInstance() {
+        return instance;
+    }
+
+    /**
+     * 按类名注册。
+     *
+     * @param classNames 类名集合
+     */
+    public void registerClassNames(Collection<String> classNames) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String className : classNames) {
+            try {
+                register(Class.forName(className.trim(), false,
+                        classLoader == null ? ClassRegistry.class.getClassLoader() : classLoader));
+            } catch (ClassNotFoundException e) {
+                throw new CacheConfigException("registered class not found:" + className, e);
+            }
+        }
+    }
+
+    /**
+     * 注册一个类，重复注册同一个类不会改变编号。
+     *
+     * @param clazz 类
+     * @return 类的编号
+     */
+    public synchronized int register(Class<?> clazz) {
+        Integer existing = classToId.get(clazz);
+        if (existing != null) {
+            return existing;
+        }
+        int id = idOf(clazz.getName());
+        Class<?> conflict = idToClass.get(id);
+        if (conflict != null) {
+            throw new CacheConfigException("class id conflict: " + clazz.getName() + " and " + conflict.getName());
+        }
+        Map<Class<?>, Integer> newClassToId = new HashMap<>(classToId);
+        newClassToId.put(clazz, id);
+        Map<Integer, Class<?>> newIdToClass = new HashMap<>(idToClass);
+        newIdToClass.put(id, clazz);
+        idToClass = newIdToClass;
+        classToId = newClassToId;
+        version++;
+        logger.debug("register class {} with id {}", clazz.getName(), id);
+        return id;
+    }
+
+    /**
+     * 开启指定区域的返回类型发现，之前已收集的候选类一并注册。
+     *
+     * @param area 缓存区域
+     */
+    public synchronized void enableDiscovery(String area) {
+        discoveryAreas.add(area);
+        Set<Class<?>> pending = pendingDiscovered.remove(area);
+        if (pending != null) {
+            pending.forEach(this::register);
+        }
+    }
+
+    /**
+     * 从方法返回类型中发现可注册的具体类，包括泛型参数中的类型。
+     * 区域未开启发现时只记录候选类，开启后再注册，与自动配置和切点匹配的先后顺序无关。
+     *
+     * @param area       缓存区域
+     * @param returnType 方法的泛型返回类型
+     */
+    public synchronized void discover(String area, Type returnType) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        collect(returnType, classes);
+        if (classes.isEmpty()) {
+            return;
+        }
+        if (discoveryAreas.contains(area)) {
+            classes.forEach(this::register);
+        } else {
+            pendingDiscovered.computeIfAbsent(area, k -> new LinkedHashSet<>()).addAll(classes);
+        }
+    }
+
+    private void collect(Type type, Set<Class<?>> classes) {
+        if (type instanceof Class<?> clazz) {
+            if (clazz.isArray()) {
+                collect(clazz.getComponentType(), classes);
+            } else if (!clazz.isPrimitive() && !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())
+                    && clazz != Object.class) {
+                classes.add(clazz);
+            }
+        } else if (type instanceof ParameterizedType pt) {
+            collect(pt.getRawType(), classes);
+            for (Type arg : pt.getActualTypeArguments()) {
+                collect(arg, classes);
+            }
+        } else if (type instanceof GenericArrayType gat) {
+            collect(gat.getGenericComponentType(), classes);
+        }
+    }
+
+    /**
+     * 获取类的编号。
+     *
+     * @param clazz 类
+     * @return 编号，未注册时返回 null
+     */
+    public Integer getId(Class<?> clazz) {
+        return classToId.get(clazz);
+    }
+
+    /**
+     * 根据编号获取类。
+     *
+     * @param id 编号
+     * @return 类，未注册时返回 null
+     */
+    public Class<?> getClass(int id) {
+        return idToClass.get(id);
+    }
+
+    /**
+     * 获取当前的类到编号映射快照。
+     *
+     * @return 映射快照，不可修改
+     */
+    public Map<Class<?>, Integer> snapshot() {
+        return Collections.unmodifiableMap(classToId);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public boolean isJsonClassIdEnabled() {
+        return jsonClassIdEnabled;
+    }
+
+    public void setJsonClassIdEnabled(boolean jsonClassIdEnabled) {
+        this.jsonClassIdEnabled = jsonClassIdEnabled;
+    }
+
+    /**
+     * 使用 FNV-1a 哈希由类名计算编号。
+     *
+     * @param className 类名
+     * @return 编号
+     */
+    static int idOf(String className) {
+        int hash = 0x811C9DC5;
+        for (byte b : className.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x01000193;
+        }
+        return (hash & ID_MASK) | MIN_ID;
+    }
+}
@@ -0,0 +1,104 @@
+package com.yat.cache.core.support.encoders;
+
+import com.yat.cache.core.exception.CacheEncodeException;
+import com.yat.cache.core.support.DecoderMap;
+import com.yat.cache.core.support.ObjectPool;
+
+import java.util.zip.Inflater;
+
+/**
+ * ClassName CompressValueDecoder
+ * <p>Description 压缩值解码器</p>
+ * <p>
+ * 注册在 {@link com.yat.cache.core.support.DecoderMap} 中，对应 {@link CompressValueEncoder#IDENTITY_NUMBER}。
+ * 解压后得到内部编码器的原始输出，再按其标识号交给对应的解码器。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/17 14:52
+ * version 1.0
+ */
+public class CompressValueDecoder extends AbstractValueDecoder {
+
+    public static final CompressValueDecoder INSTANCE = new CompressValueDecoder();
+    /**
+     * 解压后的最大长度，与 Redis 单个字符串值的上限一致
+     */
+    static final int MAX_DECOMPRESSED_SIZE = 512 * 1024 * 1024;
+    /**
+     * Deflate 的理论最大压缩比，头部声明的长度超过压缩数据长度乘以该值时必然是损坏的数据
+     */
+    private static final int MAX_DEFLATE_RATIO = 1032;
+    /**
+     * Inflater 对象池
+     */
+    static ObjectPool<Inflater> inflaterPool = new ObjectPool<>(16,
+            new ObjectPool.ObjectFactory<>() {
+                @Override
+                public Inflater create() {
+                    return new Inflater();
+                }
+
+                @Override
+                public void reset(Inflater obj) {
+                    obj.reset();
+                }
+            });
+
+    public CompressValueDecoder() {
+        super(true);
+    }
+
+    @Override
+    protected Object doApply(byte[] buffer) throws Exception {
+        return apply(decompress(buffer));
+    }
+
+    @Override
+    protected Object doApply(byte[] buffer, DecoderMap decoderMap) throws Exception {
+        return dispatch(decompress(buffer), decoderMap);
+    }
+
+    /**
+     * 解压压缩格式的字节数组。
+     *
+     * @param buffer 压缩格式的字节数组
+     * @return 内部编码器的原始输出
+     * @throws Exception 如果解压过程中发生错误
+     */
+    static byte[] decompress(byte[] buffer) throws Exception {
+        if (buffer.length < CompressValueEncoder.HEADER_SIZE) {
+            throw new CacheEncodeException("corrupted compressed value, length:" + buffer.length);
+        }
+        int codec = buffer[4];
+        if (codec != CompressValueEncoder.CODEC_DEFLATE) {
+            throw new CacheEncodeException("unsupported compress codec:" + codec);
+        }
+        int len = ValueEnvelope.readInt(buffer, 5);
+        long compressedLength = buffer.length - CompressValueEncoder.HEADER_SIZE;
+        if (len < 0 || len > MAX_DECOMPRESSED_SIZE || len > compressedLength * MAX_DEFLATE_RATIO) {
+            throw new CacheEncodeException("corrupted compressed value, illegal length:" + len
+                    + ", compressed length:" + compressedLength);
+        }
+        byte[] raw = new byte[len];
+        Inflater inflater = inflaterPool.borrowObject();
+        try {
+            inflater.setInput(buffer, CompressValueEncoder.HEADER_SIZE,
+                    buffer.length - CompressValueEncoder.HEADER_SIZE);
+            int offset = 0;
+            while (offset < len && !inflater.finished()) {
+                int n = inflater.inflate(raw, offset, len - offset);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += n;
+            }
+            if (offset != len) {
+                throw new CacheEncodeException("corrupted compressed value, expect " + len + " bytes but got " + offset);
+            }
+            return raw;
+        } finally {
+            inflaterPool.returnObject(inflater);
+        }
+    }
+}
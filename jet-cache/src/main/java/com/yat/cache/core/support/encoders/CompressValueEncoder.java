@@ -0,0 +1,153 @@
+package com.yat.cache.core.support.encoders;
+
+import com.yat.cache.core.CacheValueHolder;
+import com.yat.cache.core.exception.CacheEncodeException;
+import com.yat.cache.core.support.ObjectPool;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.Deflater;
+
+/**
+ * ClassName CompressValueEncoder
+ * <p>Description 压缩值编码器，包装任意 {@link AbstractValueEncoder}</p>
+ * <p>
+ * 内部编码器的输出达到阈值时才压缩，压缩结果使用独立的标识号，格式为：
+ * <pre>
+ * | 0..3 压缩标识号 | 4 压缩算法 | 5..8 原始长度 | 9.. 压缩数据 |
+ * </pre>
+ * 原始数据本身带有内部编码器的标识号，解码时由 {@link CompressValueDecoder} 解压后再按标识号分派，
+ * 因此压缩与未压缩的条目可以共存。低于阈值的值原样返回。
+ * 信封格式下只压缩头部之后的业务对象，头部保持原样，读取方仍可直接判断是否过期；
+ * 走快速格式的简单类型（如大字符串、字节数组）同样按阈值压缩。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/17 14:30
+ * version 1.0
+ */
+@Getter
+public class CompressValueEncoder extends AbstractValueEncoder {
+
+    /**
+     * 压缩格式的标识号
+     */
+    public static final int IDENTITY_NUMBER = 0xF6E0A5D0;
+    /**
+     * Deflate 压缩算法，其他取值保留给后续的 LZ 类算法
+     */
+    public static final byte CODEC_DEFLATE = 1;
+    /**
+     * 压缩头部长度
+     */
+    public static final int HEADER_SIZE = 9;
+    /**
+     * 默认压缩阈值（字节）
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+    /**
+     * Deflater 对象池，避免每次压缩分配本地内存
+     */
+    static ObjectPool<Deflater> deflaterPool = new ObjectPool<>(16,
+            new ObjectPool.ObjectFactory<>() {
+                @Override
+                public Deflater create() {
+                    return new Deflater(Deflater.BEST_SPEED);
+                }
+
+                @Override
+                public void reset(Deflater obj) {
+                    obj.reset();
+                }
+            });
+
+    /**
+     * 被包装的编码器
+     */
+    private final AbstractValueEncoder target;
+    /**
+     * 压缩阈值，内部编码结果小于该值时不压缩
+     */
+    private final int threshold;
+    /**
+     * Deflate 压缩级别
+     */
+    private final int level;
+
+    public CompressValueEncoder(AbstractValueEncoder target, int threshold) {
+        this(target, threshold, Deflater.BEST_SPEED);
+    }
+
+    public CompressValueEncoder(AbstractValueEncoder target, int threshold, int level) {
+        super(target.isUseIdentityNumber());
+        if (!target.isUseIdentityNumber()) {
+            throw new IllegalArgumentException("compression requires useIdentityNumber");
+        }
+        this.target = target;
+        this.threshold = threshold;
+        this.level = level;
+        this.envelope = target.isEnvelope();
+    }
+
+    @Override
+    protected byte[] encode(Object value) {
+        byte[] raw = target.encode(value);
+        byte[] compressed = compress(raw, 0, raw.length);
+        return compressed == null ? raw : compressed;
+    }
+
+    @Override
+    protected byte[] encodeEnvelope(CacheValueHolder<?> holder) {
+        if (!PrimitiveValueCodec.isSupported(holder.getValue())) {
+            return super.encodeEnvelope(holder);
+        }
+        byte[] buffer = PrimitiveValueCodec.encodeEnvelope(holder);
+        byte[] compressed = compress(buffer, ValueEnvelope.HEADER_SIZE, buffer.length - ValueEnvelope.HEADER_SIZE);
+        return compressed == null ? buffer : ValueEnvelope.wrap(holder, 0, compressed);
+    }
+
+    /**
+     * 压缩数组中的一段数据。
+     *
+     * @param raw    原始数据
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 压缩格式的字节数组，低于阈值或压缩收益不明显时返回 null
+     */
+    private byte[] compress(byte[] raw, int offset, int length) {
+        if (length < threshold) {
+            return null;
+        }
+        Deflater deflater = deflaterPool.borrowObject();
+        try {
+            deflater.setLevel(level);
+            deflater.setInput(raw, offset, length);
+            deflater.finish();
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 2 + HEADER_SIZE);
+            writeInt(bos, IDENTITY_NUMBER);
+            bos.write(CODEC_DEFLATE);
+            writeInt(bos, length);
+            byte[] buf = new byte[Math.min(length, 8192)];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buf);
+                bos.write(buf, 0, n);
+            }
+            // 压缩收益不明显时保留原始数据，省去读取方的解压开销
+            if (bos.size() >= length) {
+                return null;
+            }
+            return bos.toByteArray();
+        } catch (Exception e) {
+            throw new CacheEncodeException("Compress Encode error. msg=" + e.getMessage(), e);
+        } finally {
+            deflaterPool.returnObject(deflater);
+        }
+    }
+
+    private void writeInt(ByteArrayOutputStream bos, int value) {
+        bos.write((value >> 24) & 0xFF);
+        bos.write((value >> 16) & 0xFF);
+        bos.write((value >> 8) & 0xFF);
+        bos.write(value & 0xFF);
+    }
+}
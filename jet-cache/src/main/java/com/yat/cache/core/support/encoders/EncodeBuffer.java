@@ -0,0 +1,60 @@
+package com.yat.cache.core.support.encoders;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * ClassName EncodeBuffer
+ * <p>Description 可池化的编码缓冲区</p>
+ * <p>在 {@link ByteArrayOutputStream} 的基础上支持预先扩容、长度回填以及归还前收缩，避免对象池长期持有超大缓冲区。</p>
+ *
+ * @author Yat
+ * Date 2024/10/18 16:35
+ * version 1.0
+ */
+final class EncodeBuffer extends ByteArrayOutputStream {
+
+    EncodeBuffer() {
+        super(ValueSizeStats.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 确保缓冲区容量不小于指定值，只在当前没有数据时调用。
+     *
+     * @param capacity 容量
+     */
+    void ensureCapacity(int capacity) {
+        if (buf.length < capacity) {
+            buf = Arrays.copyOf(buf, capacity);
+        }
+    }
+
+    /**
+     * 清空数据，容量超过最大保留值时重新分配默认大小的缓冲区。
+     */
+    void resetAndTrim() {
+        reset();
+        if (buf.length > ValueSizeStats.MAX_RETAINED_BUFFER_SIZE) {
+            buf = new byte[ValueSizeStats.DEFAULT_BUFFER_SIZE];
+        }
+    }
+
+    void writeShort(int value) {
+        write(value >> 8 & 0xFF);
+        write(value & 0xFF);
+    }
+
+    void writeInt(int value) {
+        write(value >> 24 & 0xFF);
+        write(value >> 16 & 0xFF);
+        write(value >> 8 & 0xFF);
+        write(value & 0xFF);
+    }
+
+    void setInt(int index, int value) {
+        buf[index] = (byte) (value >> 24 & 0xFF);
+        buf[index + 1] = (byte) (value >> 16 & 0xFF);
+        buf[index + 2] = (byte) (value >> 8 & 0xFF);
+        buf[index + 3] = (byte) (value & 0xFF);
+    }
+}
@@ -2,8 +2,14 @@ package com.yat.cache.core.support.encoders;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ClassName GsonValueDecoder
@@ -17,6 +23,10 @@ public class GsonValueDecoder extends AbstractJsonDecoder {
 
     public static final GsonValueDecoder INSTANCE = new GsonValueDecoder(true);
     private final Gson gson = new GsonBuilder().create();
+    /**
+     * 按类型缓存的 TypeAdapter
+     */
+    private final ConcurrentHashMap<Class<?>, TypeAdapter<?>> adapters = new ConcurrentHashMap<>();
 
     public GsonValueDecoder(boolean useIdentityNumber) {
         super(useIdentityNumber);
@@ -24,7 +34,7 @@ public class GsonValueDecoder extends AbstractJsonDecoder {
 
     /**
      * 将字节数组解析成指定类型的对象。
-     * 该方法重写了AbstractJsonDecoder中的方法，使用 Gson 进行JSON解析。
+     * 该方法重写了AbstractJsonDecoder中的方法，使用按类型缓存的 TypeAdapter 直接从字节流中解析，不再构造中间字符串。
      *
      * @param buffer 字节数组，包含待解析的JSON数据。
      * @param index  字节数组中JSON数据的起始位置。
@@ -34,9 +44,13 @@ public class GsonValueDecoder extends AbstractJsonDecoder {
      */
     @Override
     protected Object parseObject(byte[] buffer, int index, int len, Class<?> clazz) {
-        // 将字节数组转换为字符串，使用UTF-8 编码。
-        String s = new String(buffer, index, len, StandardCharsets.UTF_8);
-        // 使用 Gson 将字符串解析为指定类型的对象。
-        return gson.fromJson(s, clazz);
+        TypeAdapter<?> adapter = adapters.computeIfAbsent(clazz, gson::getAdapter);
+        InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(buffer, index, len),
+                StandardCharsets.UTF_8);
+        try {
+            return adapter.read(gson.newJsonReader(reader));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
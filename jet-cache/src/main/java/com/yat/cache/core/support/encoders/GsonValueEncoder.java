@@ -3,8 +3,14 @@ package com.yat.cache.core.support.encoders;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ClassName GsonValueEncoder
@@ -18,20 +24,29 @@ public class GsonValueEncoder extends AbstractJsonEncoder {
 
     public static final GsonValueEncoder INSTANCE = new GsonValueEncoder(true);
     private final Gson gson = new GsonBuilder().create();
+    /**
+     * 按类型缓存的 TypeAdapter
+     */
+    private final ConcurrentHashMap<Class<?>, TypeAdapter<Object>> adapters = new ConcurrentHashMap<>();
 
     public GsonValueEncoder(boolean useIdentityNumber) {
         super(useIdentityNumber);
     }
 
     /**
-     * 应用序列化逻辑。
+     * 使用按类型缓存的 TypeAdapter 直接写入输出流。
      *
      * @param value 要序列化的对象。
-     * @return 序列化后的字节数组。
+     * @param out   输出流。
      */
     @Override
-    protected byte[] encodeSingleValue(Object value) {
-        return gson.toJson(value).getBytes(StandardCharsets.UTF_8);
+    @SuppressWarnings("unchecked")
+    protected void writeSingleValue(Object value, OutputStream out) throws IOException {
+        TypeAdapter<Object> adapter = adapters.computeIfAbsent(value.getClass(),
+                c -> (TypeAdapter<Object>) gson.getAdapter(c));
+        JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        adapter.write(writer, value);
+        writer.flush();
     }
 
 }
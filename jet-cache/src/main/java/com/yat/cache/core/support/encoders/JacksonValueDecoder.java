@@ -0,0 +1,48 @@
+package com.yat.cache.core.support.encoders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ClassName JacksonValueDecoder
+ * <p>Description 基于 Jackson 的值解码器</p>
+ *
+ * @author Yat
+ * Date 2024/10/18 10:26
+ * version 1.0
+ */
+public class JacksonValueDecoder extends AbstractJsonDecoder {
+
+    public static final JacksonValueDecoder INSTANCE = new JacksonValueDecoder(true);
+    private final ObjectMapper objectMapper = JacksonValueEncoder.createObjectMapper();
+    /**
+     * 按类型缓存的 ObjectReader
+     */
+    private final ConcurrentHashMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JacksonValueDecoder(boolean useIdentityNumber) {
+        super(useIdentityNumber);
+    }
+
+    /**
+     * 直接从字节数组的指定区间解析对象，不构造中间字符串。
+     *
+     * @param buffer 字节数组，包含待解析的JSON数据。
+     * @param index  字节数组中JSON数据的起始位置。
+     * @param len    要解析的JSON数据的长度。
+     * @param clazz  目标对象的类。
+     * @return 解析后的对象。
+     */
+    @Override
+    protected Object parseObject(byte[] buffer, int index, int len, Class<?> clazz) {
+        try {
+            return readers.computeIfAbsent(clazz, objectMapper::readerFor).readValue(buffer, index, len);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.yat.cache.core.support.encoders;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ClassName JacksonValueEncoder
+ * <p>Description Jackson 值编码器</p>
+ * <p>与 {@link GsonValueEncoder} 使用相同的数据格式，按字段序列化，按类型缓存 ObjectWriter 并直接写入输出流。</p>
+ *
+ * @author Yat
+ * Date 2024/10/18 10:12
+ * version 1.0
+ */
+public class JacksonValueEncoder extends AbstractJsonEncoder {
+
+    public static final JacksonValueEncoder INSTANCE = new JacksonValueEncoder(true);
+    private final ObjectMapper objectMapper = createObjectMapper();
+    /**
+     * 按类型缓存的 ObjectWriter
+     */
+    private final ConcurrentHashMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JacksonValueEncoder(boolean useIdentityNumber) {
+        super(useIdentityNumber);
+    }
+
+    @Override
+    protected int getIdentityNumber() {
+        return SerialPolicyTypeEnum.JACKSON.getCode();
+    }
+
+    @Override
+    protected void writeSingleValue(Object value, OutputStream out) throws IOException {
+        writers.computeIfAbsent(value.getClass(), objectMapper::writerFor).writeValue(out, value);
+    }
+
+    /**
+     * 创建与 Gson 行为一致的 ObjectMapper：按字段读写，忽略未知属性，不关闭目标流。
+     *
+     * @return ObjectMapper
+     */
+    static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return mapper;
+    }
+}
@@ -4,7 +4,6 @@ import com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum;
 import com.yat.cache.core.exception.CacheEncodeException;
 import com.yat.cache.core.support.ObjectPool;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
@@ -21,24 +20,19 @@ import java.io.ObjectOutputStream;
  */
 public class JavaValueEncoder extends AbstractValueEncoder {
 
-
-    /**
-     * 初始化缓冲区大小。
-     */
-    private static final int INIT_BUF_SIZE = 2048;
     /**
-     * 字节数组输出流对象池。
+     * 字节数组输出流对象池，归还时收缩超大的缓冲区。
      */
-    static ObjectPool<ByteArrayOutputStream> bosPool = new ObjectPool<>(16,
+    static ObjectPool<EncodeBuffer> bosPool = new ObjectPool<>(16,
             new ObjectPool.ObjectFactory<>() {
                 @Override
-                public ByteArrayOutputStream create() {
-                    return new ByteArrayOutputStream(INIT_BUF_SIZE);
+                public EncodeBuffer create() {
+                    return new EncodeBuffer();
                 }
 
                 @Override
-                public void reset(ByteArrayOutputStream obj) {
-                    obj.reset();
+                public void reset(EncodeBuffer obj) {
+                    obj.resetAndTrim();
                 }
             }
     );
@@ -49,20 +43,19 @@ public class JavaValueEncoder extends AbstractValueEncoder {
     }
 
     @Override
-    public byte[] apply(Object value) {
-        ByteArrayOutputStream bos = null;
+    protected byte[] encode(Object value) {
+        EncodeBuffer bos = null;
         try {
             bos = bosPool.borrowObject();
+            // 按最近的编码大小预先扩容，避免编码过程中多次扩容复制
+            bos.ensureCapacity(sizeStats.suggestedSize());
             if (useIdentityNumber) {
-                int identityNumberJava = SerialPolicyTypeEnum.JAVA.getCode();
-                bos.write((identityNumberJava >> 24) & 0xFF);
-                bos.write((identityNumberJava >> 16) & 0xFF);
-                bos.write((identityNumberJava >> 8) & 0xFF);
-                bos.write(identityNumberJava & 0xFF);
+                bos.writeInt(SerialPolicyTypeEnum.JAVA.getCode());
             }
             ObjectOutputStream oos = new ObjectOutputStream(bos);
             oos.writeObject(value);
             oos.flush();
+            sizeStats.record(bos.size());
             return bos.toByteArray();
         } catch (IOException e) {
             throw new CacheEncodeException("Java Encode error. msg=" + e.getMessage(), e);
@@ -50,6 +50,7 @@ public class Kryo5ValueDecoder extends AbstractValueDecoder {
         try {
             // 从对象池中借用Kryo5缓存对象，提高性能
             kryoCache = Kryo5ValueEncoder.kryoCacheObjectPool.borrowObject();
+            kryoCache.syncRegistry();
             Kryo kryo = kryoCache.getKryo();
             // 获取当前线程的上下文类加载器，用于Kryo的类加载
             ClassLoader classLoader = Kryo5ValueDecoder.class.getClassLoader();
@@ -1,6 +1,7 @@
 package com.yat.cache.core.support.encoders;
 
 import com.esotericsoftware.kryo.kryo5.Kryo;
+import com.esotericsoftware.kryo.kryo5.Registration;
 import com.esotericsoftware.kryo.kryo5.io.Output;
 import com.esotericsoftware.kryo.kryo5.serializers.CompatibleFieldSerializer;
 import com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum;
@@ -8,6 +9,8 @@ import com.yat.cache.core.exception.CacheEncodeException;
 import com.yat.cache.core.support.ObjectPool;
 import lombok.Getter;
 
+import java.util.Map;
+
 /**
  * ClassName Kryo5ValueEncoder
  * <p>Description 基于Kryo5的值编码器，用于序列化对象</p>
@@ -33,12 +36,12 @@ public class Kryo5ValueEncoder extends AbstractValueEncoder {
                 public void reset(Kryo5Cache obj) {
                     obj.getKryo().reset();
                     obj.getOutput().reset();
+                    // 归还前收缩超大的缓冲区，避免对象池长期持有
+                    if (obj.getOutput().getBuffer().length > ValueSizeStats.MAX_RETAINED_BUFFER_SIZE) {
+                        obj.getOutput().setBuffer(new byte[ValueSizeStats.DEFAULT_BUFFER_SIZE], -1);
+                    }
                 }
             });
-    /**
-     * 初始缓冲区大小
-     */
-    private static final int INIT_BUFFER_SIZE = 2048;
     /**
      * 单例实例，支持身份编码的Kryo5ValueEncoder
      */
@@ -56,15 +59,23 @@ public class Kryo5ValueEncoder extends AbstractValueEncoder {
      * @throws CacheEncodeException 如果序列化过程中发生错误
      */
     @Override
-    public byte[] apply(Object value) {
+    protected byte[] encode(Object value) {
         Kryo5Cache kryoCache = null;
         try {
             kryoCache = kryoCacheObjectPool.borrowObject();
+            kryoCache.syncRegistry();
+            Output output = kryoCache.getOutput();
+            // 按最近的编码大小预先扩容，避免编码过程中多次扩容复制
+            int suggestedSize = sizeStats.suggestedSize();
+            if (output.getBuffer().length < suggestedSize) {
+                output.setBuffer(new byte[suggestedSize], -1);
+            }
             if (useIdentityNumber) {
-                writeInt(kryoCache.getOutput());
+                writeInt(output);
             }
-            kryoCache.getKryo().writeClassAndObject(kryoCache.getOutput(), value);
-            return kryoCache.getOutput().toBytes();
+            kryoCache.getKryo().writeClassAndObject(output, value);
+            sizeStats.record(output.position());
+            return output.toBytes();
         } catch (Exception e) {
             throw new CacheEncodeException("Kryo Encode error. " + "msg=" + e.getMessage(), e);
         } finally {
@@ -104,6 +115,10 @@ public class Kryo5ValueEncoder extends AbstractValueEncoder {
          * 获取Kryo实例
          */
         final Kryo kryo;
+        /**
+         * 已同步的类编号注册表版本
+         */
+        private int registryVersion;
 
         /**
          * 初始化Kryo实例和Output流。
@@ -112,7 +127,26 @@ public class Kryo5ValueEncoder extends AbstractValueEncoder {
             kryo = new Kryo();
             kryo.setDefaultSerializer(CompatibleFieldSerializer.class);
             kryo.setRegistrationRequired(false);
-            output = new Output(INIT_BUFFER_SIZE, -1);
+            output = new Output(ValueSizeStats.DEFAULT_BUFFER_SIZE, -1);
+        }
+
+        /**
+         * 将 {@link ClassRegistry} 中新增的类注册到 Kryo，已注册的类写入编号而不是类名。
+         */
+        void syncRegistry() {
+            ClassRegistry registry = ClassRegistry.defaultInstance();
+            int version = registry.getVersion();
+            if (version == registryVersion) {
+                return;
+            }
+            for (Map.Entry<Class<?>, Integer> en : registry.snapshot().entrySet()) {
+                // 之前按类名隐式注册过的类需要改为按编号注册
+                Registration registration = kryo.getClassResolver().getRegistration(en.getKey());
+                if (registration == null || registration.getId() != en.getValue()) {
+                    kryo.register(en.getKey(), en.getValue());
+                }
+            }
+            registryVersion = version;
         }
 
     }
@@ -34,13 +34,13 @@ public class KryoValueEncoder extends AbstractValueEncoder {
         public void reset(KryoCache obj) {
             obj.getKryo().reset();
             obj.getOutput().clear();
+            // 归还前收缩超大的缓冲区，避免对象池长期持有
+            if (obj.getOutput().getBuffer().length > ValueSizeStats.MAX_RETAINED_BUFFER_SIZE) {
+                obj.getOutput().setBuffer(new byte[ValueSizeStats.DEFAULT_BUFFER_SIZE], -1);
+            }
         }
     }
     );
-    /**
-     * 初始化缓冲区大小
-     */
-    private static final int INIT_BUFFER_SIZE = 2048;
     /**
      * KryoValueEncoder 的单例实例
      */
@@ -63,15 +63,21 @@ public class KryoValueEncoder extends AbstractValueEncoder {
      * @throws CacheEncodeException 如果序列化过程中发生错误。
      */
     @Override
-    public byte[] apply(Object value) {
+    protected byte[] encode(Object value) {
         KryoCache kryoCache = null;
         try {
             kryoCache = kryoCacheObjectPool.borrowObject();
             Output output = kryoCache.getOutput();
+            // 按最近的编码大小预先扩容，避免编码过程中多次扩容复制
+            int suggestedSize = sizeStats.suggestedSize();
+            if (output.getBuffer().length < suggestedSize) {
+                output.setBuffer(new byte[suggestedSize], -1);
+            }
             if (useIdentityNumber) {
                 writeInt(output);
             }
             kryoCache.getKryo().writeClassAndObject(output, value);
+            sizeStats.record(output.position());
             return output.toBytes();
         } catch (Exception e) {
             throw new CacheEncodeException("Kryo Encode error. msg=" + e.getMessage(), e);
@@ -107,7 +113,7 @@ public class KryoValueEncoder extends AbstractValueEncoder {
         public KryoCache() {
             kryo = new Kryo();
             kryo.setDefaultSerializer(CompatibleFieldSerializer.class);
-            byte[] buffer = new byte[INIT_BUFFER_SIZE];
+            byte[] buffer = new byte[ValueSizeStats.DEFAULT_BUFFER_SIZE];
             output = new Output(buffer, -1);
         }
 
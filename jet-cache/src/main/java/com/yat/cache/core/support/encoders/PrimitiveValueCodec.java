@@ -0,0 +1,184 @@
+package com.yat.cache.core.support.encoders;
+
+import com.yat.cache.core.CacheValueHolder;
+import com.yat.cache.core.exception.CacheEncodeException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ClassName PrimitiveValueCodec
+ * <p>Description 常用简单类型的快速编码格式</p>
+ * <p>
+ * {@code String}、{@code Long}、{@code Integer}、{@code Double}、{@code Boolean}、{@code byte[]}、枚举以及 null
+ * 直接写为原始字节，不经过 Kryo/Java 序列化：
+ * <pre>
+ * | 0..3 快速格式标识号 | 4 类型 | 5.. 原始字节 |
+ * </pre>
+ * 开启信封格式时，这些类型的值与 {@link ValueEnvelope} 头部一次写入同一个数组；
+ * 标识号注册在 {@link com.yat.cache.core.support.DecoderMap} 中，与其他格式的条目可以共存。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/18 14:05
+ * version 1.0
+ */
+public final class PrimitiveValueCodec {
+
+    /**
+     * 快速格式的标识号
+     */
+    public static final int IDENTITY_NUMBER = 0xF6E0A5D1;
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_BYTES = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_DOUBLE = 6;
+    private static final byte TYPE_ENUM = 7;
+    /**
+     * 标识号与类型所占的长度
+     */
+    private static final int PREFIX_SIZE = 5;
+    /**
+     * 枚举类名的 UTF-8 字节缓存
+     */
+    private static final ConcurrentHashMap<Class<?>, byte[]> enumClassNames = new ConcurrentHashMap<>();
+
+    private PrimitiveValueCodec() {
+    }
+
+    /**
+     * 判断值是否可以使用快速格式。
+     *
+     * @param value 值
+     * @return 是否支持
+     */
+    public static boolean isSupported(Object value) {
+        return value == null || value instanceof String || value instanceof Long || value instanceof Integer
+                || value instanceof byte[] || value instanceof Boolean || value instanceof Double
+                || value instanceof Enum;
+    }
+
+    /**
+     * 将持有者编码为信封格式，业务对象使用快速格式，头部与数据一次写入。
+     *
+     * @param holder 缓存值持有者，其值必须满足 {@link #isSupported(Object)}
+     * @return 信封字节数组
+     */
+    public static byte[] encodeEnvelope(CacheValueHolder<?> holder) {
+        Object value = holder.getValue();
+        int offset = ValueEnvelope.HEADER_SIZE;
+        byte[] buffer;
+        if (value == null) {
+            buffer = allocate(offset, TYPE_NULL, 0);
+        } else if (value instanceof String s) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            buffer = allocate(offset, TYPE_STRING, bytes.length);
+            System.arraycopy(bytes, 0, buffer, offset + PREFIX_SIZE, bytes.length);
+        } else if (value instanceof Long l) {
+            buffer = allocate(offset, TYPE_LONG, 8);
+            writeLong(buffer, offset + PREFIX_SIZE, l);
+        } else if (value instanceof Integer i) {
+            buffer = allocate(offset, TYPE_INTEGER, 4);
+            writeInt(buffer, offset + PREFIX_SIZE, i);
+        } else if (value instanceof byte[] bytes) {
+            buffer = allocate(offset, TYPE_BYTES, bytes.length);
+            System.arraycopy(bytes, 0, buffer, offset + PREFIX_SIZE, bytes.length);
+        } else if (value instanceof Boolean b) {
+            buffer = allocate(offset, TYPE_BOOLEAN, 1);
+            buffer[offset + PREFIX_SIZE] = (byte) (b ? 1 : 0);
+        } else if (value instanceof Double d) {
+            buffer = allocate(offset, TYPE_DOUBLE, 8);
+            writeLong(buffer, offset + PREFIX_SIZE, Double.doubleToRawLongBits(d));
+        } else if (value instanceof Enum<?> e) {
+            byte[] className = enumClassNames.computeIfAbsent(e.getDeclaringClass(),
+                    c -> c.getName().getBytes(StandardCharsets.UTF_8));
+            byte[] name = e.name().getBytes(StandardCharsets.UTF_8);
+            buffer = allocate(offset, TYPE_ENUM, 2 + className.length + name.length);
+            int index = offset + PREFIX_SIZE;
+            buffer[index] = (byte) (className.length >> 8 & 0xFF);
+            buffer[index + 1] = (byte) (className.length & 0xFF);
+            System.arraycopy(className, 0, buffer, index + 2, className.length);
+            System.arraycopy(name, 0, buffer, index + 2 + className.length, name.length);
+        } else {
+            throw new CacheEncodeException("unsupported fast path type:" + value.getClass().getName());
+        }
+        ValueEnvelope.writeHeader(buffer, holder, 0);
+        return buffer;
+    }
+
+    /**
+     * 判断指定位置是否为快速格式的数据。
+     *
+     * @param buffer 字节数组
+     * @param offset 起始位置
+     * @return 是否为快速格式
+     */
+    public static boolean isPrimitive(byte[] buffer, int offset) {
+        return buffer.length >= offset + PREFIX_SIZE && ValueEnvelope.readInt(buffer, offset) == IDENTITY_NUMBER;
+    }
+
+    /**
+     * 从指定位置解码快速格式的数据，直到数组末尾。
+     *
+     * @param buffer 字节数组
+     * @param offset 快速格式标识号所在的位置
+     * @return 解码后的值
+     * @throws ClassNotFoundException 枚举类不存在时
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Object decode(byte[] buffer, int offset) throws ClassNotFoundException {
+        int type = buffer[offset + 4];
+        int index = offset + PREFIX_SIZE;
+        int len = buffer.length - index;
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_STRING -> new String(buffer, index, len, StandardCharsets.UTF_8);
+            case TYPE_LONG -> readLong(buffer, index);
+            case TYPE_INTEGER -> ValueEnvelope.readInt(buffer, index);
+            case TYPE_BYTES -> {
+                byte[] bytes = new byte[len];
+                System.arraycopy(buffer, index, bytes, 0, len);
+                yield bytes;
+            }
+            case TYPE_BOOLEAN -> buffer[index] != 0;
+            case TYPE_DOUBLE -> Double.longBitsToDouble(readLong(buffer, index));
+            case TYPE_ENUM -> {
+                int classNameLen = (buffer[index] & 0xFF) << 8 | (buffer[index + 1] & 0xFF);
+                String className = new String(buffer, index + 2, classNameLen, StandardCharsets.UTF_8);
+                int nameIndex = index + 2 + classNameLen;
+                String name = new String(buffer, nameIndex, buffer.length - nameIndex, StandardCharsets.UTF_8);
+                ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                Class enumClass = Class.forName(className, true,
+                        classLoader == null ? PrimitiveValueCodec.class.getClassLoader() : classLoader);
+                yield Enum.valueOf(enumClass, name);
+            }
+            default -> throw new CacheEncodeException("unsupported fast path type:" + type);
+        };
+    }
+
+    private static byte[] allocate(int offset, byte type, int payloadLength) {
+        byte[] buffer = new byte[offset + PREFIX_SIZE + payloadLength];
+        writeInt(buffer, offset, IDENTITY_NUMBER);
+        buffer[offset + 4] = type;
+        return buffer;
+    }
+
+    private static void writeInt(byte[] buf, int index, int value) {
+        buf[index] = (byte) (value >> 24 & 0xFF);
+        buf[index + 1] = (byte) (value >> 16 & 0xFF);
+        buf[index + 2] = (byte) (value >> 8 & 0xFF);
+        buf[index + 3] = (byte) (value & 0xFF);
+    }
+
+    private static void writeLong(byte[] buf, int index, long value) {
+        writeInt(buf, index, (int) (value >>> 32));
+        writeInt(buf, index + 4, (int) value);
+    }
+
+    private static long readLong(byte[] buf, int index) {
+        return ((long) ValueEnvelope.readInt(buf, index) << 32) | (ValueEnvelope.readInt(buf, index + 4) & 0xFFFFFFFFL);
+    }
+}
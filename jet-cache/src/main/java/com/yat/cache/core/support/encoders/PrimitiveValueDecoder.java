@@ -0,0 +1,24 @@
+package com.yat.cache.core.support.encoders;
+
+/**
+ * ClassName PrimitiveValueDecoder
+ * <p>Description 快速格式的解码器</p>
+ * <p>注册在 {@link com.yat.cache.core.support.DecoderMap} 中，对应 {@link PrimitiveValueCodec#IDENTITY_NUMBER}。</p>
+ *
+ * @author Yat
+ * Date 2024/10/18 14:40
+ * version 1.0
+ */
+public class PrimitiveValueDecoder extends AbstractValueDecoder {
+
+    public static final PrimitiveValueDecoder INSTANCE = new PrimitiveValueDecoder();
+
+    public PrimitiveValueDecoder() {
+        super(true);
+    }
+
+    @Override
+    protected Object doApply(byte[] buffer) throws Exception {
+        return PrimitiveValueCodec.decode(buffer, 0);
+    }
+}
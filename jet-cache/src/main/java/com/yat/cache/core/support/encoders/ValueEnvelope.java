@@ -0,0 +1,168 @@
+package com.yat.cache.core.support.encoders;
+
+import com.yat.cache.core.CacheValueHolder;
+
+/**
+ * ClassName ValueEnvelope
+ * <p>Description 缓存值信封格式</p>
+ * <p>
+ * 将 {@link CacheValueHolder} 的元数据写在固定偏移的头部，业务对象单独编码后放在头部之后：
+ * <pre>
+ * | 0..3 信封标识号 | 4 版本 | 5 标志位 | 6..13 expireTime | 14..21 accessTime | 22.. 业务对象(含自身标识号) |
+ * </pre>
+ * 读取方只需检查头部即可判断是否过期，过期条目无需完整反序列化；持有者的元数据也不再经过
+ * Kryo/Java/Gson 的反射序列化。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/17 10:05
+ * version 1.0
+ */
+public final class ValueEnvelope {
+
+    /**
+     * 信封的标识号，与 {@link com.yat.cache.autoconfigure.properties.enums.SerialPolicyTypeEnum} 中的编码互不冲突
+     */
+    public static final int IDENTITY_NUMBER = 0xF6E0A5E0;
+    /**
+     * 当前信封版本
+     */
+    public static final byte VERSION = 1;
+    /**
+     * 头部长度
+     */
+    public static final int HEADER_SIZE = 22;
+    private static final int VERSION_OFFSET = 4;
+    private static final int FLAGS_OFFSET = 5;
+    private static final int EXPIRE_TIME_OFFSET = 6;
+    private static final int ACCESS_TIME_OFFSET = 14;
+
+    private ValueEnvelope() {
+    }
+
+    /**
+     * 判断字节数组是否为信封格式。
+     *
+     * @param buffer 字节数组
+     * @return 是否为信封格式
+     */
+    public static boolean isEnvelope(byte[] buffer) {
+        return buffer != null && buffer.length >= HEADER_SIZE && readInt(buffer, 0) == IDENTITY_NUMBER;
+    }
+
+    /**
+     * 判断信封版本是否可以由当前代码读取，调用方需先确认为信封格式。
+     *
+     * @param buffer 信封字节数组
+     * @return 是否为支持的版本
+     */
+    public static boolean isSupportedVersion(byte[] buffer) {
+        return version(buffer) == VERSION;
+    }
+
+    /**
+     * 仅根据头部判断信封中的值是否已过期。非信封格式或版本不支持时返回 false，
+     * 由调用方解码后再判断，不支持的版本会在解码时报错，不会按未知布局的头部误判过期。
+     *
+     * @param buffer 字节数组
+     * @param now    当前时间（毫秒）
+     * @return 是否已过期
+     */
+    public static boolean isExpired(byte[] buffer, long now) {
+        return isEnvelope(buffer) && isSupportedVersion(buffer) && now >= readLong(buffer, EXPIRE_TIME_OFFSET);
+    }
+
+    /**
+     * 读取信封头部的过期时间。
+     *
+     * @param buffer 信封字节数组
+     * @return 过期时间
+     */
+    public static long expireTime(byte[] buffer) {
+        return readLong(buffer, EXPIRE_TIME_OFFSET);
+    }
+
+    /**
+     * 读取信封头部的最近访问时间。
+     *
+     * @param buffer 信封字节数组
+     * @return 最近访问时间
+     */
+    public static long accessTime(byte[] buffer) {
+        return readLong(buffer, ACCESS_TIME_OFFSET);
+    }
+
+    /**
+     * 读取信封头部的标志位。
+     *
+     * @param buffer 信封字节数组
+     * @return 标志位
+     */
+    public static int flags(byte[] buffer) {
+        return buffer[FLAGS_OFFSET] & 0xFF;
+    }
+
+    /**
+     * 读取信封头部的版本。
+     *
+     * @param buffer 信封字节数组
+     * @return 版本
+     */
+    public static int version(byte[] buffer) {
+        return buffer[VERSION_OFFSET] & 0xFF;
+    }
+
+    /**
+     * 将持有者的元数据与已编码的业务对象组装为信封。
+     *
+     * @param holder 缓存值持有者
+     * @param flags  标志位
+     * @param body   已编码的业务对象
+     * @return 信封字节数组
+     */
+    public static byte[] wrap(CacheValueHolder<?> holder, int flags, byte[] body) {
+        byte[] buffer = new byte[HEADER_SIZE + body.length];
+        writeHeader(buffer, holder, flags);
+        System.arraycopy(body, 0, buffer, HEADER_SIZE, body.length);
+        return buffer;
+    }
+
+    /**
+     * 在数组开头写入信封头部，数组长度至少为 {@link #HEADER_SIZE}。
+     *
+     * @param buffer 目标数组
+     * @param holder 缓存值持有者
+     * @param flags  标志位
+     */
+    static void writeHeader(byte[] buffer, CacheValueHolder<?> holder, int flags) {
+        writeInt(buffer, 0, IDENTITY_NUMBER);
+        buffer[VERSION_OFFSET] = VERSION;
+        buffer[FLAGS_OFFSET] = (byte) flags;
+        writeLong(buffer, EXPIRE_TIME_OFFSET, holder.getExpireTime());
+        writeLong(buffer, ACCESS_TIME_OFFSET, holder.getAccessTime());
+    }
+
+    static int readInt(byte[] buf, int index) {
+        int x = buf[index] & 0xFF;
+        x = (x << 8) | (buf[index + 1] & 0xFF);
+        x = (x << 8) | (buf[index + 2] & 0xFF);
+        x = (x << 8) | (buf[index + 3] & 0xFF);
+        return x;
+    }
+
+    private static long readLong(byte[] buf, int index) {
+        return ((long) readInt(buf, index) << 32) | (readInt(buf, index + 4) & 0xFFFFFFFFL);
+    }
+
+    private static void writeInt(byte[] buf, int index, int value) {
+        buf[index] = (byte) (value >> 24 & 0xFF);
+        buf[index + 1] = (byte) (value >> 16 & 0xFF);
+        buf[index + 2] = (byte) (value >> 8 & 0xFF);
+        buf[index + 3] = (byte) (value & 0xFF);
+    }
+
+    private static void writeLong(byte[] buf, int index, long value) {
+        writeInt(buf, index, (int) (value >>> 32));
+        writeInt(buf, index + 4, (int) value);
+    }
+}
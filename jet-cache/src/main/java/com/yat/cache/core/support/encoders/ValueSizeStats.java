@@ -0,0 +1,68 @@
+package com.yat.cache.core.support.encoders;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ClassName ValueSizeStats
+ * <p>Description 编码结果大小的统计，用于预估缓冲区的初始容量</p>
+ * <p>
+ * 记录最近的编码大小，每积累一轮样本重新计算一次分位数。借出缓冲区时按该值预先扩容，
+ * 避免大对象在编码过程中多次扩容复制；统计允许少量并发误差。
+ * </p>
+ *
+ * @author Yat
+ * Date 2024/10/18 16:20
+ * version 1.0
+ */
+final class ValueSizeStats {
+
+    /**
+     * 默认初始缓冲区大小
+     */
+    static final int DEFAULT_BUFFER_SIZE = 2048;
+    /**
+     * 归还到对象池时允许保留的最大缓冲区容量，超过时丢弃并重新分配默认大小
+     */
+    static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+    /**
+     * 样本数量
+     */
+    private static final int SAMPLE_SIZE = 64;
+    /**
+     * 使用的分位数
+     */
+    private static final double PERCENTILE = 0.9;
+
+    private final int[] samples = new int[SAMPLE_SIZE];
+    private final AtomicInteger counter = new AtomicInteger();
+    /**
+     * 当前建议的缓冲区容量
+     */
+    private volatile int suggestedSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * 记录一次编码结果的大小。
+     *
+     * @param size 编码结果大小
+     */
+    void record(int size) {
+        int n = counter.getAndIncrement();
+        samples[n & (SAMPLE_SIZE - 1)] = size;
+        if ((n & (SAMPLE_SIZE - 1)) == SAMPLE_SIZE - 1) {
+            int[] copy = samples.clone();
+            Arrays.sort(copy);
+            int p = copy[(int) (SAMPLE_SIZE * PERCENTILE)];
+            suggestedSize = Math.max(DEFAULT_BUFFER_SIZE, Math.min(p, MAX_RETAINED_BUFFER_SIZE));
+        }
+    }
+
+    /**
+     * 获取建议的缓冲区容量，范围为默认大小到最大保留容量之间。
+     *
+     * @return 缓冲区容量
+     */
+    int suggestedSize() {
+        return suggestedSize;
+    }
+}
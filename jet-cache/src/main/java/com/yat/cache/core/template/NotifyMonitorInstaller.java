@@ -67,6 +67,7 @@ public class NotifyMonitorInstaller implements CacheMonitorInstaller {
         if (jetCacheManager.getBroadcastManager(area) == null) {
             BroadcastManager cm = cacheBuilder.createBroadcastManager(jetCacheManager);
             if (cm != null) {
+                cm.setArea(area);
                 cm.startSubscribe();
                 jetCacheManager.putBroadcastManager(area, cm);
             }
@@ -0,0 +1,84 @@
+package com.yat.cache.mmap;
+
+import com.yat.cache.core.external.ExternalCacheBuilder;
+
+/**
+ * ClassName MmapCacheBuilder
+ * <p>Description 基于内存映射文件的磁盘缓存构建器</p>
+ * <p>可以作为多级缓存的中间层使用，例如：堆内缓存 → 磁盘缓存 → Redis：</p>
+ * <pre>
+ * MultiLevelCacheBuilder.createMultiLevelCacheBuilder()
+ *         .addCache(localCache, mmapCache, redisCache)
+ *         .buildCache();
+ * </pre>
+ *
+ * @author Yat
+ * Date 2024/10/16 10:12
+ * version 1.0
+ */
+public class MmapCacheBuilder<T extends ExternalCacheBuilder<T>> extends ExternalCacheBuilder<T> {
+
+    protected MmapCacheBuilder() {
+        buildFunc(config -> new MmapJetCache((MmapCacheConfig) config));
+    }
+
+    @Override
+    public MmapCacheConfig getConfig() {
+        if (config == null) {
+            config = new MmapCacheConfig();
+        }
+        return (MmapCacheConfig) config;
+    }
+
+    public T directory(String directory) {
+        getConfig().setDirectory(directory);
+        return self();
+    }
+
+    public void setDirectory(String directory) {
+        getConfig().setDirectory(directory);
+    }
+
+    public T segmentSizeInBytes(int segmentSizeInBytes) {
+        getConfig().setSegmentSizeInBytes(segmentSizeInBytes);
+        return self();
+    }
+
+    public void setSegmentSizeInBytes(int segmentSizeInBytes) {
+        getConfig().setSegmentSizeInBytes(segmentSizeInBytes);
+    }
+
+    public T maxSegments(int maxSegments) {
+        getConfig().setMaxSegments(maxSegments);
+        return self();
+    }
+
+    public void setMaxSegments(int maxSegments) {
+        getConfig().setMaxSegments(maxSegments);
+    }
+
+    public T compactThreshold(double compactThreshold) {
+        getConfig().setCompactThreshold(compactThreshold);
+        return self();
+    }
+
+    public void setCompactThreshold(double compactThreshold) {
+        getConfig().setCompactThreshold(compactThreshold);
+    }
+
+    public T compactIntervalInMillis(long compactIntervalInMillis) {
+        getConfig().setCompactIntervalInMillis(compactIntervalInMillis);
+        return self();
+    }
+
+    public void setCompactIntervalInMillis(long compactIntervalInMillis) {
+        getConfig().setCompactIntervalInMillis(compactIntervalInMillis);
+    }
+
+    public static MmapCacheBuilderImpl createMmapCacheBuilder() {
+        return new MmapCacheBuilderImpl();
+    }
+
+    public static class MmapCacheBuilderImpl extends MmapCacheBuilder<MmapCacheBuilderImpl> {
+    }
+}
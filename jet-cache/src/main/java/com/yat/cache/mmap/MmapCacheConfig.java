@@ -0,0 +1,44 @@
+package com.yat.cache.mmap;
+
+import com.yat.cache.core.external.ExternalCacheConfig;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * ClassName MmapCacheConfig
+ * <p>Description 基于内存映射文件的磁盘缓存配置</p>
+ *
+ * @author Yat
+ * Date 2024/10/16 10:05
+ * version 1.0
+ */
+@Setter
+@Getter
+public class MmapCacheConfig<K, V> extends ExternalCacheConfig<K, V> {
+
+    /**
+     * 段文件所在目录，每个缓存实例在该目录下按键前缀使用独立的子目录，
+     * 子目录名包含键前缀的摘要。同一进程中两个缓存实例使用同一子目录时启动失败
+     */
+    private String directory;
+
+    /**
+     * 单个段文件的大小（字节），默认 256MB
+     */
+    private int segmentSizeInBytes = 256 * 1024 * 1024;
+
+    /**
+     * 最多保留的段文件数量，超过时淘汰最旧的段，默认 16
+     */
+    private int maxSegments = 16;
+
+    /**
+     * 段内存活数据占比低于该值时触发压缩，默认 0.5
+     */
+    private double compactThreshold = 0.5;
+
+    /**
+     * 后台压缩及过期清理的执行间隔（毫秒），默认 60 秒
+     */
+    private long compactIntervalInMillis = 60 * 1000L;
+}
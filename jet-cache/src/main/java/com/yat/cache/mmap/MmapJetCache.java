@@ -0,0 +1,225 @@
+package com.yat.cache.mmap;
+
+import com.yat.cache.core.CacheConfig;
+import com.yat.cache.core.CacheGetResult;
+import com.yat.cache.core.CacheResult;
+import com.yat.cache.core.CacheResultCode;
+import com.yat.cache.core.CacheValueHolder;
+import com.yat.cache.core.LocalJetCache;
+import com.yat.cache.core.MultiGetResult;
+import com.yat.cache.core.exception.CacheConfigException;
+import com.yat.cache.core.external.AbstractExternalJetCache;
+import com.yat.cache.core.support.JetCacheExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * ClassName MmapJetCache
+ * <p>Description 基于内存映射段文件的本地磁盘缓存实现</p>
+ * <p>数据以编码后的字节形式存放在堆外的映射内存中，索引保存在堆内。适合作为堆内缓存与 Redis 之间的中间层，
+ * 在每个实例上保存大量温数据而不增加 GC 压力，同时减少对 Redis 的读取。</p>
+ *
+ * @author Yat
+ * Date 2024/10/16 11:20
+ * version 1.0
+ */
+@SuppressWarnings("unchecked")
+public class MmapJetCache<K, V> extends AbstractExternalJetCache<K, V> implements LocalJetCache<K> {
+
+    private final MmapCacheConfig<K, V> config;
+    private final Function<Object, byte[]> valueEncoder;
+    private final Function<byte[], Object> valueDecoder;
+    private final MmapSegmentStore store;
+    private final ScheduledFuture<?> compactFuture;
+
+    public MmapJetCache(MmapCacheConfig<K, V> config) {
+        super(config);
+        this.config = config;
+        this.valueEncoder = config.getValueEncoder();
+        this.valueDecoder = config.getValueDecoder();
+        if (config.getDirectory() == null) {
+            throw new CacheConfigException("directory is required");
+        }
+        if (config.isExpireAfterAccess()) {
+            throw new CacheConfigException("expireAfterAccess is not supported");
+        }
+        Path path = Paths.get(config.getDirectory(), subDirectory(config.getKeyPrefix()));
+        this.store = new MmapSegmentStore(path, config.getSegmentSizeInBytes(), config.getMaxSegments(),
+                config.getCompactThreshold());
+        long interval = config.getCompactIntervalInMillis();
+        this.compactFuture = JetCacheExecutor.heavyIOExecutor().scheduleWithFixedDelay(
+                store::compact, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 按键前缀计算缓存实例的子目录名。
+     * <p>可读部分只保留安全字符，不同的前缀可能得到相同的可读部分，因此追加原始前缀的摘要加以区分。</p>
+     *
+     * @param keyPrefix 键前缀，可以为 null
+     * @return 子目录名
+     */
+    static String subDirectory(String keyPrefix) {
+        String raw = keyPrefix == null ? "" : keyPrefix;
+        String readable = raw.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (readable.length() > 64) {
+            readable = readable.substring(0, 64);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+            return (readable.isEmpty() ? "_" : readable) + "-" + HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CacheConfigException("SHA-256 not supported", e);
+        }
+    }
+
+    @Override
+    public CacheConfig<K, V> config() {
+        return config;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> clazz) {
+        throw new IllegalArgumentException(clazz.getName());
+    }
+
+    @Override
+    protected CacheGetResult<V> do_GET(K key) {
+        try {
+            return (CacheGetResult<V>) get(buildKey(key), System.currentTimeMillis());
+        } catch (Exception ex) {
+            logError("GET", key, ex);
+            return new CacheGetResult<>(ex);
+        }
+    }
+
+    private CacheGetResult<Object> get(byte[] newKey, long now) {
+        MmapSegmentStore.Location location = store.lookup(newKey);
+        if (location == null) {
+            return CacheGetResult.notExistsWithoutMsg();
+        }
+        // 过期时间保存在记录头中，过期的条目无需读取和解码值
+        if (location.isExpired(now)) {
+            return CacheGetResult.expiredWithoutMsg();
+        }
+        CacheValueHolder<Object> holder = (CacheValueHolder<Object>) valueDecoder.apply(store.read(location));
+        return new CacheGetResult<>(CacheResultCode.SUCCESS, null, holder);
+    }
+
+    @Override
+    protected MultiGetResult<K, V> do_GET_ALL(Set<? extends K> keys) {
+        try {
+            Map<K, CacheGetResult<V>> resultMap = new HashMap<>(keys.size() * 4 / 3 + 1);
+            long now = System.currentTimeMillis();
+            for (K key : keys) {
+                resultMap.put(key, (CacheGetResult<V>) (CacheGetResult<?>) get(buildKey(key), now));
+            }
+            return new MultiGetResult<>(CacheResultCode.SUCCESS, null, resultMap);
+        } catch (Exception ex) {
+            logError("GET_ALL", "keys(" + keys.size() + ")", ex);
+            return new MultiGetResult<>(ex);
+        }
+    }
+
+    @Override
+    protected CacheResult do_PUT(K key, V value, long expireAfterWrite, TimeUnit timeUnit) {
+        try {
+            CacheValueHolder<V> holder = new CacheValueHolder<>(value, timeUnit.toMillis(expireAfterWrite));
+            store.put(buildKey(key), valueEncoder.apply(holder), holder.getExpireTime());
+            return CacheResult.SUCCESS_WITHOUT_MSG;
+        } catch (Exception ex) {
+            logError("PUT", key, ex);
+            return new CacheResult(ex);
+        }
+    }
+
+    @Override
+    protected CacheResult do_PUT_ALL(Map<? extends K, ? extends V> map, long expireAfterWrite, TimeUnit timeUnit) {
+        try {
+            for (Map.Entry<? extends K, ? extends V> en : map.entrySet()) {
+                CacheValueHolder<V> holder = new CacheValueHolder<>(en.getValue(), timeUnit.toMillis(expireAfterWrite));
+                store.put(buildKey(en.getKey()), valueEncoder.apply(holder), holder.getExpireTime());
+            }
+            return CacheResult.SUCCESS_WITHOUT_MSG;
+        } catch (Exception ex) {
+            logError("PUT_ALL", "map(" + map.size() + ")", ex);
+            return new CacheResult(ex);
+        }
+    }
+
+    @Override
+    protected CacheResult do_REMOVE(K key) {
+        try {
+            if (store.remove(buildKey(key))) {
+                return CacheResult.SUCCESS_WITHOUT_MSG;
+            }
+            return new CacheResult(CacheResultCode.NOT_EXISTS, null);
+        } catch (Exception ex) {
+            logError("REMOVE", key, ex);
+            return new CacheResult(ex);
+        }
+    }
+
+    @Override
+    protected CacheResult do_REMOVE_ALL(Set<? extends K> keys) {
+        try {
+            for (K key : keys) {
+                store.remove(buildKey(key));
+            }
+            return CacheResult.SUCCESS_WITHOUT_MSG;
+        } catch (Exception ex) {
+            logError("REMOVE_ALL", "keys(" + keys.size() + ")", ex);
+            return new CacheResult(ex);
+        }
+    }
+
+    @Override
+    protected CacheResult do_PUT_IF_ABSENT(K key, V value, long expireAfterWrite, TimeUnit timeUnit) {
+        try {
+            CacheValueHolder<V> holder = new CacheValueHolder<>(value, timeUnit.toMillis(expireAfterWrite));
+            if (store.putIfAbsent(buildKey(key), valueEncoder.apply(holder), holder.getExpireTime())) {
+                return CacheResult.SUCCESS_WITHOUT_MSG;
+            }
+            return CacheResult.EXISTS_WITHOUT_MSG;
+        } catch (Exception ex) {
+            logError("PUT_IF_ABSENT", key, ex);
+            return new CacheResult(ex);
+        }
+    }
+
+    // internal method
+    @Override
+    public void __removeAll(Set<? extends K> keys) {
+        for (K key : keys) {
+            store.remove(buildKey(key));
+        }
+    }
+
+    // internal method
+    @Override
+    public void __clear() {
+        store.clear();
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        compactFuture.cancel(false);
+        store.close();
+    }
+}
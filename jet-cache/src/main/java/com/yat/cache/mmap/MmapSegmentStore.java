@@ -0,0 +1,655 @@
+package com.yat.cache.mmap;
+
+import com.yat.cache.core.exception.CacheConfigException;
+import com.yat.cache.core.exception.CacheException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * ClassName MmapSegmentStore
+ * <p>Description 内存映射段文件存储：追加写日志 + 内存索引</p>
+ * <p>每条记录的格式为：</p>
+ * <pre>
+ * | recordLen(4) | keyLen(4) | valueLen(4, -1 表示删除) | expireTime(8) | key | value |
+ * </pre>
+ * <p>写入在锁内追加到当前活动段，读取通过索引定位后无锁地从映射内存复制。
+ * 段写满后滚动到新段，段数超过上限时淘汰最旧的段；存活数据占比过低的段会被压缩，
+ * 其存活记录重新追加到活动段后删除该段。启动时扫描已有段文件重建索引。</p>
+ * <p>删除标记与已过期的记录在恢复时都会移除更早写入的同名键，因此在仍存在更早的段时按存活数据计算，
+ * 压缩时作为删除标记追加到活动段，直到所有更早的段都已删除，避免已删除的键在重启后复活。</p>
+ * <p>压缩与淘汰后的索引清理都先在锁外扫描段内的记录，再分批持有写锁逐条确认索引是否仍指向该记录，
+ * 写入只会被短暂阻塞，与索引中的键总数无关。</p>
+ *
+ * @author Yat
+ * Date 2024/10/16 10:30
+ * version 1.0
+ */
+class MmapSegmentStore implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MmapSegmentStore.class);
+    /**
+     * 记录头长度
+     */
+    static final int HEADER_SIZE = 20;
+    /**
+     * 删除标记
+     */
+    private static final int TOMBSTONE = -1;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    /**
+     * 压缩与清理时每次持有写锁处理的记录数
+     */
+    private static final int LOCK_BATCH = 1024;
+    /**
+     * 本进程中已打开的存储目录，两个存储读写同一目录会互相覆盖记录
+     */
+    private static final Set<Path> openDirectories = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final double compactThreshold;
+    /**
+     * 键到记录位置的索引
+     */
+    private final ConcurrentHashMap<ByteBuffer, Location> index = new ConcurrentHashMap<>();
+    /**
+     * 仍需保留的删除标记（包括已过期的记录）的位置，只在写锁内修改
+     */
+    private final ConcurrentHashMap<ByteBuffer, Location> tombstones = new ConcurrentHashMap<>();
+    /**
+     * 按创建顺序排列的段，最后一个为活动段
+     */
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    /**
+     * 已淘汰但索引中可能仍有记录指向的段，由下一次压缩按段内记录清理
+     */
+    private final ConcurrentLinkedQueue<Segment> droppedSegments = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long nextSegmentId;
+    private Segment active;
+    /**
+     * 是否已关闭，只在写锁内修改
+     */
+    private boolean closed;
+
+    MmapSegmentStore(Path directory, int segmentSize, int maxSegments, double compactThreshold) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(2, maxSegments);
+        this.compactThreshold = compactThreshold;
+        if (!openDirectories.add(this.directory)) {
+            throw new CacheConfigException("mmap directory is already used by another cache: " + this.directory);
+        }
+        try {
+            Files.createDirectories(this.directory);
+            recover();
+            if (active == null) {
+                roll();
+            }
+        } catch (IOException | RuntimeException e) {
+            openDirectories.remove(this.directory);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new CacheException("init mmap store error: " + this.directory, e);
+        }
+    }
+
+    /**
+     * 查找键对应的记录位置。
+     *
+     * @param key 键
+     * @return 记录位置，不存在时返回 null
+     */
+    Location lookup(byte[] key) {
+        return live(index.get(ByteBuffer.wrap(key)));
+    }
+
+    /**
+     * 位于已淘汰段中的记录视为不存在
+     */
+    private static Location live(Location location) {
+        return location == null || location.segment.dropped ? null : location;
+    }
+
+    /**
+     * 读取记录的值。
+     *
+     * @param location 记录位置
+     * @return 值字节数组
+     */
+    byte[] read(Location location) {
+        byte[] value = new byte[location.valueLen];
+        location.segment.buffer.get(location.offset + HEADER_SIZE + location.keyLen, value);
+        return value;
+    }
+
+    /**
+     * 写入键值。
+     *
+     * @param key        键
+     * @param value      值
+     * @param expireTime 过期时间戳
+     */
+    void put(byte[] key, byte[] value, long expireTime) {
+        writeLock.lock();
+        try {
+            putLocked(key, value, expireTime);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 键不存在或已过期时写入键值。
+     *
+     * @param key        键
+     * @param value      值
+     * @param expireTime 过期时间戳
+     * @return 是否写入
+     */
+    boolean putIfAbsent(byte[] key, byte[] value, long expireTime) {
+        writeLock.lock();
+        try {
+            Location old = live(index.get(ByteBuffer.wrap(key)));
+            if (old != null && !old.isExpired(System.currentTimeMillis())) {
+                return false;
+            }
+            putLocked(key, value, expireTime);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 删除键。
+     *
+     * @param key 键
+     * @return 键是否存在
+     */
+    boolean remove(byte[] key) {
+        writeLock.lock();
+        try {
+            Location old = index.remove(ByteBuffer.wrap(key));
+            if (old == null || old.segment.dropped) {
+                // 淘汰的是最旧的段，不存在需要遮蔽的更早记录
+                return false;
+            }
+            old.segment.liveBytes.addAndGet(-old.recordLen);
+            putTombstoneLocked(key);
+            return !old.isExpired(System.currentTimeMillis());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 删除全部键与段文件。
+     */
+    void clear() {
+        writeLock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.dropped = true;
+                segment.delete();
+            }
+            segments.clear();
+            droppedSegments.clear();
+            index.clear();
+            tombstones.clear();
+            roll();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 清理过期索引并压缩存活数据占比过低的段。
+     */
+    void compact() {
+        purgeDroppedSegments();
+        long now = System.currentTimeMillis();
+        for (Map.Entry<ByteBuffer, Location> en : index.entrySet()) {
+            Location location = en.getValue();
+            if (!location.isExpired(now)) {
+                continue;
+            }
+            writeLock.lock();
+            try {
+                // 过期记录在恢复时同样会移除更早的同名键，作为删除标记保留
+                if (index.remove(en.getKey(), location)) {
+                    addTombstoneLocked(en.getKey(), location);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        releaseTombstones();
+        List<Segment> candidates = new ArrayList<>();
+        writeLock.lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment != active && segment.liveBytes.get() < segment.writePos * compactThreshold) {
+                    candidates.add(segment);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        for (Segment segment : candidates) {
+            try {
+                compactSegment(segment, now);
+            } catch (Exception e) {
+                logger.error("compact mmap segment error: {}", segment.file, e);
+            }
+        }
+    }
+
+    /**
+     * 将段中仍被索引引用的记录与仍需保留的删除标记重新追加到活动段，然后删除该段。
+     * 非活动段不再写入，可以在锁外扫描其记录。
+     */
+    private void compactSegment(Segment segment, long now) {
+        inBatches(records(segment), r -> {
+            if (segment.dropped) {
+                return;
+            }
+            ByteBuffer key = ByteBuffer.wrap(r.key());
+            boolean hasOlder = segments.peekFirst() != segment;
+            Location location = index.get(key);
+            if (location != null && location.segment == segment && location.offset == r.offset()) {
+                if (location.isExpired(now)) {
+                    index.remove(key);
+                    if (hasOlder) {
+                        putTombstoneLocked(r.key());
+                    }
+                } else {
+                    putLocked(r.key(), read(location), location.expireTime);
+                }
+            }
+            Location tombstone = tombstones.get(key);
+            if (tombstone != null && tombstone.segment == segment && tombstone.offset == r.offset()) {
+                if (hasOlder) {
+                    putTombstoneLocked(r.key());
+                } else {
+                    tombstones.remove(key);
+                }
+            }
+        });
+        writeLock.lock();
+        try {
+            if (!segment.dropped) {
+                drop(segment, false);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 清理仍指向已淘汰段的索引与删除标记。
+     */
+    private void purgeDroppedSegments() {
+        Segment segment;
+        while ((segment = droppedSegments.poll()) != null) {
+            Segment dropped = segment;
+            inBatches(records(dropped), r -> {
+                ByteBuffer key = ByteBuffer.wrap(r.key());
+                Location location = index.get(key);
+                if (location != null && location.segment == dropped) {
+                    index.remove(key);
+                }
+                Location tombstone = tombstones.get(key);
+                if (tombstone != null && tombstone.segment == dropped) {
+                    tombstones.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 释放位于最旧段中的删除标记：没有更早的段，它们不会再遮蔽任何记录。
+     * 最旧段只会变新，锁外选出的删除标记在锁内仍可释放。
+     */
+    private void releaseTombstones() {
+        Segment oldest;
+        writeLock.lock();
+        try {
+            oldest = segments.peekFirst();
+        } finally {
+            writeLock.unlock();
+        }
+        if (oldest == null) {
+            return;
+        }
+        List<Map.Entry<ByteBuffer, Location>> released = new ArrayList<>();
+        tombstones.forEach((key, location) -> {
+            if (location.segment.id <= oldest.id) {
+                released.add(Map.entry(key, location));
+            }
+        });
+        inBatches(released, en -> {
+            if (tombstones.remove(en.getKey(), en.getValue())) {
+                en.getValue().segment.liveBytes.addAndGet(-en.getValue().recordLen);
+            }
+        });
+    }
+
+    /**
+     * 分批持有写锁处理元素。
+     */
+    private <T> void inBatches(List<T> items, Consumer<T> action) {
+        for (int i = 0; i < items.size(); i += LOCK_BATCH) {
+            writeLock.lock();
+            try {
+                for (int j = i; j < Math.min(items.size(), i + LOCK_BATCH); j++) {
+                    action.accept(items.get(j));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 扫描段中已写入的记录。
+     */
+    private static List<SegmentRecord> records(Segment segment) {
+        List<SegmentRecord> records = new ArrayList<>();
+        MappedByteBuffer buffer = segment.buffer;
+        int end = segment.writePos;
+        int offset = 0;
+        while (offset < end) {
+            int recordLen = buffer.getInt(offset);
+            byte[] key = new byte[buffer.getInt(offset + 4)];
+            buffer.get(offset + HEADER_SIZE, key);
+            records.add(new SegmentRecord(key, offset));
+            offset += recordLen;
+        }
+        return records;
+    }
+
+    private void putLocked(byte[] key, byte[] value, long expireTime) {
+        Location location = append(key, value, expireTime);
+        location.segment.liveBytes.addAndGet(location.recordLen);
+        Location old = index.put(ByteBuffer.wrap(key), location);
+        if (old != null) {
+            old.segment.liveBytes.addAndGet(-old.recordLen);
+        }
+        // 新写入的记录晚于删除标记，恢复时会覆盖更早的记录，删除标记不再需要
+        Location tombstone = tombstones.remove(ByteBuffer.wrap(key));
+        if (tombstone != null) {
+            tombstone.segment.liveBytes.addAndGet(-tombstone.recordLen);
+        }
+    }
+
+    private void putTombstoneLocked(byte[] key) {
+        Location location = append(key, null, 0);
+        location.segment.liveBytes.addAndGet(location.recordLen);
+        addTombstoneLocked(ByteBuffer.wrap(key), location);
+    }
+
+    /**
+     * 记录删除标记的位置，调用前该记录已计入所在段的存活字节数。
+     */
+    private void addTombstoneLocked(ByteBuffer key, Location location) {
+        Location old = tombstones.put(key, location);
+        if (old != null) {
+            old.segment.liveBytes.addAndGet(-old.recordLen);
+        }
+    }
+
+    /**
+     * 追加一条记录到活动段，先写记录体，最后写入记录长度，保证崩溃后扫描不会读到半条记录。
+     */
+    private Location append(byte[] key, byte[] value, long expireTime) {
+        int valueLen = value == null ? TOMBSTONE : value.length;
+        int recordLen = HEADER_SIZE + key.length + Math.max(valueLen, 0);
+        if (recordLen > segmentSize) {
+            throw new CacheException("record size " + recordLen + " exceeds segment size " + segmentSize);
+        }
+        if (active.writePos + recordLen > segmentSize) {
+            roll();
+        }
+        Segment segment = active;
+        int offset = segment.writePos;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.putInt(offset + 4, key.length);
+        buffer.putInt(offset + 8, valueLen);
+        buffer.putLong(offset + 12, expireTime);
+        buffer.put(offset + HEADER_SIZE, key);
+        if (value != null) {
+            buffer.put(offset + HEADER_SIZE + key.length, value);
+        }
+        buffer.putInt(offset, recordLen);
+        segment.writePos = offset + recordLen;
+        return new Location(segment, offset, recordLen, key.length, Math.max(valueLen, 0), expireTime);
+    }
+
+    private void roll() {
+        try {
+            long id = nextSegmentId++;
+            Segment segment = Segment.open(directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX), id,
+                    segmentSize);
+            segments.addLast(segment);
+            active = segment;
+            while (segments.size() > maxSegments) {
+                drop(segments.peekFirst(), true);
+            }
+        } catch (IOException e) {
+            throw new CacheException("create mmap segment error", e);
+        }
+    }
+
+    /**
+     * 删除段。压缩以外只会删除最旧的段（相当于按段淘汰最旧的数据），其中的删除标记不再遮蔽任何记录，
+     * 指向该段的索引在查询时视为不存在，并由下一次压缩清理。
+     *
+     * @param segment    段
+     * @param referenced 索引中是否可能仍有记录指向该段
+     */
+    private void drop(Segment segment, boolean referenced) {
+        segments.remove(segment);
+        segment.dropped = true;
+        segment.delete();
+        if (referenced) {
+            droppedSegments.add(segment);
+        }
+    }
+
+    /**
+     * 扫描已有段文件重建索引。
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted((a, b) -> Long.compare(segmentId(a), segmentId(b)))
+                    .toList();
+        }
+        long now = System.currentTimeMillis();
+        for (Path file : files) {
+            if (Files.size(file) != segmentSize) {
+                Files.delete(file);
+                continue;
+            }
+            long id = segmentId(file);
+            Segment segment = Segment.open(file, id, segmentSize);
+            nextSegmentId = id + 1;
+            segments.addLast(segment);
+            active = segment;
+            MappedByteBuffer buffer = segment.buffer;
+            int offset = 0;
+            while (offset + HEADER_SIZE <= segmentSize) {
+                int recordLen = buffer.getInt(offset);
+                if (recordLen <= 0 || offset + recordLen > segmentSize) {
+                    break;
+                }
+                int keyLen = buffer.getInt(offset + 4);
+                int valueLen = buffer.getInt(offset + 8);
+                long expireTime = buffer.getLong(offset + 12);
+                byte[] key = new byte[keyLen];
+                buffer.get(offset + HEADER_SIZE, key);
+                Location location = new Location(segment, offset, recordLen, keyLen, Math.max(valueLen, 0),
+                        expireTime);
+                segment.liveBytes.addAndGet(recordLen);
+                if (valueLen == TOMBSTONE || expireTime <= now) {
+                    Location old = index.remove(ByteBuffer.wrap(key));
+                    if (old != null) {
+                        old.segment.liveBytes.addAndGet(-old.recordLen);
+                    }
+                    addTombstoneLocked(ByteBuffer.wrap(key), location);
+                } else {
+                    putIndexOnRecover(key, location);
+                }
+                offset += recordLen;
+            }
+            segment.writePos = offset;
+        }
+        while (segments.size() > maxSegments) {
+            drop(segments.peekFirst(), true);
+        }
+        purgeDroppedSegments();
+        logger.info("mmap store {} recovered {} segments, {} keys", directory, segments.size(), index.size());
+    }
+
+    private void putIndexOnRecover(byte[] key, Location location) {
+        Location old = index.put(ByteBuffer.wrap(key), location);
+        if (old != null) {
+            old.segment.liveBytes.addAndGet(-old.recordLen);
+        }
+        Location tombstone = tombstones.remove(ByteBuffer.wrap(key));
+        if (tombstone != null) {
+            tombstone.segment.liveBytes.addAndGet(-tombstone.recordLen);
+        }
+    }
+
+    private static long segmentId(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 将映射内存刷写到段文件并释放目录占用。可以重复调用，不清除索引，关闭后仍可继续读写。
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+            }
+            if (!closed) {
+                closed = true;
+                openDirectories.remove(directory);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 记录在段中的位置
+     */
+    static final class Location {
+        final Segment segment;
+        final int offset;
+        final int recordLen;
+        final int keyLen;
+        final int valueLen;
+        final long expireTime;
+
+        Location(Segment segment, int offset, int recordLen, int keyLen, int valueLen, long expireTime) {
+            this.segment = segment;
+            this.offset = offset;
+            this.recordLen = recordLen;
+            this.keyLen = keyLen;
+            this.valueLen = valueLen;
+            this.expireTime = expireTime;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expireTime;
+        }
+    }
+
+    /**
+     * 段中一条记录的键与位置
+     */
+    private record SegmentRecord(byte[] key, int offset) {
+    }
+
+    /**
+     * 一个映射到内存的段文件。文件通道在映射后即关闭，映射内存在没有引用后由 GC 释放。
+     */
+    static final class Segment {
+        final Path file;
+        /**
+         * 段编号，越大越新
+         */
+        final long id;
+        final MappedByteBuffer buffer;
+        /**
+         * 存活记录的字节数
+         */
+        final AtomicLong liveBytes = new AtomicLong();
+        /**
+         * 下一条记录的写入位置，只在写锁内修改
+         */
+        volatile int writePos;
+        /**
+         * 是否已删除
+         */
+        volatile boolean dropped;
+
+        private Segment(Path file, long id, MappedByteBuffer buffer) {
+            this.file = file;
+            this.id = id;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, long id, int size) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(size);
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+                return new Segment(file, id, buffer);
+            }
+        }
+
+        /**
+         * 删除段文件，正在进行的读取仍可访问已映射的内存。
+         */
+        void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("delete mmap segment error: {}", file, e);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.yat.cache.core.CacheResultCode;
 import com.yat.cache.core.JetCacheManager;
 import com.yat.cache.core.ResultData;
 import com.yat.cache.core.exception.CacheConfigException;
+import com.yat.cache.core.support.BroadcastInboundPipeline;
 import com.yat.cache.core.support.BroadcastManager;
 import com.yat.cache.core.support.CacheMessage;
 import com.yat.cache.core.support.JetCacheExecutor;
@@ -13,6 +14,7 @@ import io.lettuce.core.RedisFuture;
 import io.lettuce.core.api.async.BaseRedisAsyncCommands;
 import io.lettuce.core.pubsub.RedisPubSubAdapter;
 import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +48,11 @@ public class LettuceBroadcastManager extends BroadcastManager {
      * Redis异步命令执行器
      */
     private final BaseRedisAsyncCommands<byte[], byte[]> stringAsyncCommands;
+    /**
+     * 入站消息处理管道，按到达顺序批量解码和应用
+     */
+    @Getter
+    private final BroadcastInboundPipeline inboundPipeline;
     /**
      * 重入锁
      */
@@ -79,6 +86,14 @@ public class LettuceBroadcastManager extends BroadcastManager {
         this.lettuceConnectionManager.init(config.getRedisClient(), config.getConnection());
         this.stringAsyncCommands = (BaseRedisAsyncCommands<byte[], byte[]>) lettuceConnectionManager
                 .asyncCommands(config.getRedisClient());
+        this.inboundPipeline = new BroadcastInboundPipeline(
+                config.getBroadcastChannel(),
+                message -> decodeCacheMessage(message, config.getValueDecoder()),
+                this::processCacheMessages,
+                this::clearLocalCaches,
+                BroadcastInboundPipeline.DEFAULT_BATCH_SIZE,
+                BroadcastInboundPipeline.DEFAULT_MAX_BACKLOG
+        );
     }
 
 
@@ -121,10 +136,7 @@ public class LettuceBroadcastManager extends BroadcastManager {
             this.pubSubAdapter = new RedisPubSubAdapter<>() {
                 @Override
                 public void message(byte[] channel, byte[] message) {
-                    JetCacheExecutor.defaultExecutor().execute(
-                            () -> processNotification(message, config.getValueDecoder())
-                    );
-
+                    inboundPipeline.offer(message);
                 }
             };
             config.getPubSubConnection().addListener(this.pubSubAdapter);
@@ -140,5 +152,6 @@ public class LettuceBroadcastManager extends BroadcastManager {
     public void close() {
         config.getPubSubConnection().removeListener(this.pubSubAdapter);
         config.getPubSubConnection().close();
+        inboundPipeline.close();
     }
 }
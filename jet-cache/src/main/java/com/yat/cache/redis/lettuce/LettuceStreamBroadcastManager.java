@@ -0,0 +1,214 @@
+package com.yat.cache.redis.lettuce;
+
+import com.yat.cache.core.CacheResult;
+import com.yat.cache.core.CacheResultCode;
+import com.yat.cache.core.JetCacheManager;
+import com.yat.cache.core.ResultData;
+import com.yat.cache.core.support.BroadcastManager;
+import com.yat.cache.core.support.CacheMessage;
+import com.yat.cache.core.support.JetCacheExecutor;
+import com.yat.cache.core.support.SquashedLogger;
+import io.lettuce.core.Limit;
+import io.lettuce.core.Range;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XAddArgs;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.api.async.RedisStreamAsyncCommands;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ClassName LettuceStreamBroadcastManager
+ * <p>Description 基于 Redis Stream 的广播管理器</p>
+ * <p>发布时使用 XADD 并按 MAXLEN 近似裁剪，订阅端记录最后读取的消息 ID，按批次 XREAD。
+ * 连接断开期间发送的失效消息会在重连后从最后读取的位置补读，而不是丢失。
+ * 可补读的窗口由 {@link RedisLettuceCacheConfig#getBroadcastStreamMaxLen()} 决定。
+ * 轮询在独立的守护线程中执行，等待 Redis 响应时不会占用 {@link JetCacheExecutor} 的共享线程池。</p>
+ *
+ * @author Yat
+ * Date 2024/10/12 10:20
+ * version 1.0
+ */
+public class LettuceStreamBroadcastManager extends BroadcastManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(LettuceStreamBroadcastManager.class);
+    /**
+     * Stream 消息体中存放编码后 CacheMessage 的字段名
+     */
+    private static final byte[] MESSAGE_FIELD = "m".getBytes(StandardCharsets.UTF_8);
+    /**
+     * Redis缓存配置
+     */
+    private final RedisLettuceCacheConfig<Object, Object> config;
+    /**
+     * 广播 Stream 的键
+     */
+    private final byte[] streamKey;
+    /**
+     * Redis Stream 异步命令执行器
+     */
+    private final RedisStreamAsyncCommands<byte[], byte[]> streamAsyncCommands;
+    /**
+     * 重入锁
+     */
+    private final ReentrantLock reentrantLock = new ReentrantLock();
+    /**
+     * 最后一次读取到的消息 ID，为 null 表示尚未确定起始位置
+     */
+    private volatile String lastId;
+    /**
+     * 执行轮询的单线程调度器
+     */
+    private volatile ScheduledExecutorService pollExecutor;
+
+    /**
+     * 构造函数，初始化广播管理器。
+     *
+     * @param jetCacheManager 缓存管理器
+     * @param config          Redis缓存配置
+     */
+    public LettuceStreamBroadcastManager(
+            JetCacheManager jetCacheManager, RedisLettuceCacheConfig<Object, Object> config
+    ) {
+        super(jetCacheManager);
+        checkConfig(config);
+        this.config = config;
+        this.streamKey = config.getBroadcastChannel().getBytes(StandardCharsets.UTF_8);
+        LettuceConnectionManager lettuceConnectionManager = config.getConnectionManager();
+        lettuceConnectionManager.init(config.getRedisClient(), config.getConnection());
+        this.streamAsyncCommands = (RedisStreamAsyncCommands<byte[], byte[]>) lettuceConnectionManager
+                .asyncCommands(config.getRedisClient());
+    }
+
+    /**
+     * 追加缓存事件到 Redis Stream。
+     *
+     * @param cacheMessage 缓存消息
+     * @return 发布结果
+     */
+    @Override
+    public CacheResult publish(CacheMessage cacheMessage) {
+        try {
+            byte[] value = config.getValueEncoder().apply(cacheMessage);
+            XAddArgs args = XAddArgs.Builder.maxlen(config.getBroadcastStreamMaxLen()).approximateTrimming();
+            RedisFuture<String> future = streamAsyncCommands.xadd(
+                    streamKey, args, Collections.singletonMap(MESSAGE_FIELD, value)
+            );
+            return new CacheResult(future.handle((rt, ex) -> {
+                if (ex != null) {
+                    JetCacheExecutor.defaultExecutor().execute(() ->
+                            SquashedLogger.getLogger(logger).error("JetCache publish error", ex));
+                    return new ResultData(ex);
+                } else {
+                    return new ResultData(CacheResultCode.SUCCESS, null, null);
+                }
+            }));
+        } catch (Exception ex) {
+            SquashedLogger.getLogger(logger).error("JetCache publish error", ex);
+            return new CacheResult(ex);
+        }
+    }
+
+    /**
+     * 启动轮询任务，按批次读取 Stream 中的缓存事件。
+     */
+    @Override
+    public void startSubscribe() {
+        reentrantLock.lock();
+        try {
+            if (pollExecutor != null) {
+                throw new IllegalStateException("startSubscribe has invoked");
+            }
+            long interval = config.getBroadcastStreamPollIntervalInMillis();
+            pollExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "JetCacheBroadcastStreamPoller-" + config.getBroadcastChannel());
+                t.setDaemon(true);
+                return t;
+            });
+            pollExecutor.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.MILLISECONDS);
+            logger.info("subscribe JetCache invalidate notification by stream. stream={}",
+                    config.getBroadcastChannel());
+        } finally {
+            reentrantLock.unlock();
+        }
+    }
+
+    /**
+     * 读取一批消息并应用。连接异常时保留 {@link #lastId}，下次轮询从该位置继续读取。
+     */
+    private void poll() {
+        try {
+            long timeout = config.getAsyncResultTimeoutInMillis();
+            if (lastId == null) {
+                List<StreamMessage<byte[], byte[]>> latest = streamAsyncCommands
+                        .xrevrange(streamKey, Range.create("-", "+"), Limit.from(1))
+                        .get(timeout, TimeUnit.MILLISECONDS);
+                lastId = latest == null || latest.isEmpty() ? "0-0" : latest.get(0).getId();
+            }
+            int batchSize = config.getBroadcastStreamBatchSize();
+            List<StreamMessage<byte[], byte[]>> messages;
+            do {
+                messages = streamAsyncCommands
+                        .xread(XReadArgs.Builder.count(batchSize), XReadArgs.StreamOffset.from(streamKey, lastId))
+                        .get(timeout, TimeUnit.MILLISECONDS);
+                if (messages == null || messages.isEmpty()) {
+                    return;
+                }
+                List<CacheMessage> cacheMessages = new ArrayList<>(messages.size());
+                for (StreamMessage<byte[], byte[]> message : messages) {
+                    CacheMessage cacheMessage = decodeStreamMessage(message);
+                    if (cacheMessage != null) {
+                        cacheMessages.add(cacheMessage);
+                    }
+                }
+                processCacheMessages(cacheMessages);
+                lastId = messages.get(messages.size() - 1).getId();
+            } while (messages.size() >= batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            SquashedLogger.getLogger(logger).error("read JetCache broadcast stream error", e);
+        }
+    }
+
+    private CacheMessage decodeStreamMessage(StreamMessage<byte[], byte[]> message) {
+        try {
+            byte[] body = null;
+            for (Map.Entry<byte[], byte[]> en : message.getBody().entrySet()) {
+                if (Arrays.equals(MESSAGE_FIELD, en.getKey())) {
+                    body = en.getValue();
+                    break;
+                }
+            }
+            return decodeCacheMessage(body, config.getValueDecoder());
+        } catch (Throwable e) {
+            SquashedLogger.getLogger(logger).error("receive cache notify error", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        reentrantLock.lock();
+        try {
+            if (pollExecutor != null) {
+                pollExecutor.shutdownNow();
+                pollExecutor = null;
+            }
+        } finally {
+            reentrantLock.unlock();
+        }
+    }
+}
@@ -29,6 +29,9 @@ public class RedisLettuceCacheBuilder<T extends ExternalCacheBuilder<T>> extends
     @Override
     public BroadcastManager createBroadcastManager(JetCacheManager jetCacheManager) {
         RedisLettuceCacheConfig c = (RedisLettuceCacheConfig) getConfig().clone();
+        if (c.isBroadcastByStream()) {
+            return new LettuceStreamBroadcastManager(jetCacheManager, c);
+        }
         return new LettuceBroadcastManager(jetCacheManager, c);
     }
 
@@ -85,6 +88,42 @@ public class RedisLettuceCacheBuilder<T extends ExternalCacheBuilder<T>> extends
         getConfig().setAsyncResultTimeoutInMillis(asyncResultTimeoutInMillis);
     }
 
+    public T broadcastByStream(boolean broadcastByStream) {
+        getConfig().setBroadcastByStream(broadcastByStream);
+        return self();
+    }
+
+    public void setBroadcastByStream(boolean broadcastByStream) {
+        getConfig().setBroadcastByStream(broadcastByStream);
+    }
+
+    public T broadcastStreamMaxLen(long broadcastStreamMaxLen) {
+        getConfig().setBroadcastStreamMaxLen(broadcastStreamMaxLen);
+        return self();
+    }
+
+    public void setBroadcastStreamMaxLen(long broadcastStreamMaxLen) {
+        getConfig().setBroadcastStreamMaxLen(broadcastStreamMaxLen);
+    }
+
+    public T broadcastStreamBatchSize(int broadcastStreamBatchSize) {
+        getConfig().setBroadcastStreamBatchSize(broadcastStreamBatchSize);
+        return self();
+    }
+
+    public void setBroadcastStreamBatchSize(int broadcastStreamBatchSize) {
+        getConfig().setBroadcastStreamBatchSize(broadcastStreamBatchSize);
+    }
+
+    public T broadcastStreamPollIntervalInMillis(long broadcastStreamPollIntervalInMillis) {
+        getConfig().setBroadcastStreamPollIntervalInMillis(broadcastStreamPollIntervalInMillis);
+        return self();
+    }
+
+    public void setBroadcastStreamPollIntervalInMillis(long broadcastStreamPollIntervalInMillis) {
+        getConfig().setBroadcastStreamPollIntervalInMillis(broadcastStreamPollIntervalInMillis);
+    }
+
     public static RedisLettuceCacheBuilderImpl createRedisLettuceCacheBuilder() {
         return new RedisLettuceCacheBuilderImpl();
     }
@@ -43,4 +43,24 @@ public class RedisLettuceCacheConfig<K, V> extends ExternalCacheConfig<K, V> {
      * 异步操作结果的超时时间（毫秒），用于等待异步操作完成
      */
     private long asyncResultTimeoutInMillis = DefaultCacheConstant.ASYNC_RESULT_TIMEOUT.toMillis();
+
+    /**
+     * 是否使用 Redis Stream 作为广播通道，断线重连后可以补读错过的失效消息
+     */
+    private boolean broadcastByStream = false;
+
+    /**
+     * 广播 Stream 的最大长度（XADD MAXLEN 近似裁剪），决定断线后可补读的消息窗口
+     */
+    private long broadcastStreamMaxLen = 10000;
+
+    /**
+     * 每次 XREAD 读取的最大消息数
+     */
+    private int broadcastStreamBatchSize = 256;
+
+    /**
+     * 轮询广播 Stream 的间隔（毫秒）
+     */
+    private long broadcastStreamPollIntervalInMillis = 100;
 }
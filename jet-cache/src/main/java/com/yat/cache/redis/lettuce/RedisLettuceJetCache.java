@@ -10,6 +10,7 @@ import com.yat.cache.core.ResultData;
 import com.yat.cache.core.exception.CacheConfigException;
 import com.yat.cache.core.external.AbstractExternalJetCache;
 import com.yat.cache.core.support.JetCacheExecutor;
+import com.yat.cache.core.support.encoders.ValueEnvelope;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisFuture;
@@ -111,6 +112,10 @@ public class RedisLettuceJetCache<K, V> extends AbstractExternalJetCache<K, V> {
                 } else {
                     try {
                         if (valueBytes != null) {
+                            // 信封格式可以只读头部判断过期，无需解码业务对象
+                            if (ValueEnvelope.isExpired(valueBytes, System.currentTimeMillis())) {
+                                return new ResultData(CacheResultCode.EXPIRED, null, null);
+                            }
                             CacheValueHolder<V> holder = (CacheValueHolder<V>) valueDecoder.apply(valueBytes);
                             if (System.currentTimeMillis() >= holder.getExpireTime()) {
                                 return new ResultData(CacheResultCode.EXPIRED, null, null);
@@ -140,7 +145,7 @@ public class RedisLettuceJetCache<K, V> extends AbstractExternalJetCache<K, V> {
             ArrayList<K> keyList = new ArrayList<>(keys);
             byte[][] newKeys = keyList.stream().map(this::buildKey).toArray(byte[][]::new);
 
-            Map<K, CacheGetResult<V>> resultMap = new HashMap<>();
+            Map<K, CacheGetResult<V>> resultMap = new HashMap<>((int) (newKeys.length / 0.75f) + 1);
             if (newKeys.length == 0) {
                 return new MultiGetResult<>(CacheResultCode.SUCCESS, null, resultMap);
             }
@@ -154,17 +159,8 @@ public class RedisLettuceJetCache<K, V> extends AbstractExternalJetCache<K, V> {
                         for (int i = 0; i < list.size(); i++) {
                             KeyValue<byte[], byte[]> kv = list.get(i);
                             K key = keyList.get(i);
-                            if (kv != null && kv.hasValue()) {
-                                CacheValueHolder<V> holder = (CacheValueHolder<V>) valueDecoder.apply(kv.getValue());
-                                if (System.currentTimeMillis() >= holder.getExpireTime()) {
-                                    resultMap.put(key, CacheGetResult.expiredWithoutMsg());
-                                } else {
-                                    CacheGetResult<V> r = new CacheGetResult<>(CacheResultCode.SUCCESS, null, holder);
-                                    resultMap.put(key, r);
-                                }
-                            } else {
-                                resultMap.put(key, CacheGetResult.notExistsWithoutMsg());
-                            }
+                            byte[] bytes = kv != null && kv.hasValue() ? kv.getValue() : null;
+                            resultMap.put(key, toMultiGetItem(key, bytes, valueDecoder));
                         }
                         return new ResultData(CacheResultCode.SUCCESS, null, resultMap);
                     } catch (Exception exception) {
@@ -8,6 +8,7 @@ import com.yat.cache.core.CacheValueHolder;
 import com.yat.cache.core.MultiGetResult;
 import com.yat.cache.core.exception.CacheConfigException;
 import com.yat.cache.core.external.AbstractExternalJetCache;
+import com.yat.cache.core.support.encoders.ValueEnvelope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -71,6 +72,10 @@ public class RedisSpringDataJetCache<K, V> extends AbstractExternalJetCache<K, V
             byte[] resultBytes = con.stringCommands().get(newKey);
             // 如果结果不为空
             if (resultBytes != null) {
+                // 信封格式可以只读头部判断过期，无需解码业务对象
+                if (ValueEnvelope.isExpired(resultBytes, System.currentTimeMillis())) {
+                    return CacheGetResult.expiredWithoutMsg();
+                }
                 // 将结果字节转换为缓存值持有者对象
                 CacheValueHolder<V> holder = (CacheValueHolder<V>) valueDecoder.apply(resultBytes);
                 // 检查缓存项是否已过期
@@ -127,7 +132,7 @@ public class RedisSpringDataJetCache<K, V> extends AbstractExternalJetCache<K, V
                     .toArray(byte[][]::new);
 
             // 创建一个映射来存储键及其对应的获取结果
-            Map<K, CacheGetResult<V>> resultMap = new HashMap<>();
+            Map<K, CacheGetResult<V>> resultMap = new HashMap<>((int) (newKeys.length / 0.75f) + 1);
             // 如果有键需要查询，则执行mGet命令
             if (newKeys.length > 0) {
                 // 使用Redis的mGet命令批量获取键对应的值
@@ -135,27 +140,9 @@ public class RedisSpringDataJetCache<K, V> extends AbstractExternalJetCache<K, V
                 // 如果获取结果非空，则处理每个键的获取结果
                 if (Objects.nonNull(mGetResults)) {
                     for (int i = 0; i < mGetResults.size(); i++) {
-                        // 获取当前键对应的值
-                        Object value = mGetResults.get(i);
-                        // 获取对应的键
                         K key = keyList.get(i);
-                        // 如果值非空，则进一步处理
-                        if (Objects.nonNull(value)) {
-                            // 将获取到的值解码为CacheValueHolder对象
-                            CacheValueHolder<V> holder = (CacheValueHolder<V>) valueDecoder.apply((byte[]) value);
-                            // 检查值是否已过期
-                            if (System.currentTimeMillis() >= holder.getExpireTime()) {
-                                // 如果已过期，将过期结果添加到结果映射中
-                                resultMap.put(key, CacheGetResult.expiredWithoutMsg());
-                            } else {
-                                // 如果未过期，创建成功的CacheGetResult对象并添加到结果映射中
-                                CacheGetResult<V> r = new CacheGetResult<>(CacheResultCode.SUCCESS, null, holder);
-                                resultMap.put(key, r);
-                            }
-                        } else {
-                            // 如果值为空，表示键不存在，将不存在的结果添加到结果映射中
-                            resultMap.put(key, CacheGetResult.notExistsWithoutMsg());
-                        }
+                        // 值为空表示键不存在；开启延迟解码时值在首次访问时才反序列化
+                        resultMap.put(key, toMultiGetItem(key, mGetResults.get(i), valueDecoder));
                     }
                 }
             }